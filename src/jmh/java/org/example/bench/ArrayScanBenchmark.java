@@ -0,0 +1,75 @@
+package org.example.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.example.Algorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ArrayScanBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    /** A key that is never present, so searches take the full O(N) worst case. */
+    public int missingKey = -1;
+
+    private int[] distinctInts;
+    private double[] doubles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        // A shuffled permutation: all values distinct, so the uniqueness check cannot exit early
+        distinctInts = new int[size];
+        for (int i = 0; i < size; i++) { distinctInts[i] = i; }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = distinctInts[i]; distinctInts[i] = distinctInts[j]; distinctInts[j] = t;
+        }
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) { doubles[i] = random.nextDouble() * 1000000.0; }
+    }
+
+    @Benchmark
+    public int sequentialSearch() {
+        return Algorithms.sequentialSearch(distinctInts, missingKey);
+    }
+
+    @Benchmark
+    public int sequentialSearchVectorized() {
+        return Algorithms.sequentialSearchVectorized(distinctInts, missingKey);
+    }
+
+    @Benchmark
+    public double findMaxElement() {
+        return Algorithms.findMaxElement(doubles);
+    }
+
+    @Benchmark
+    public double findMaxElementVectorized() {
+        return Algorithms.findMaxElementVectorized(doubles);
+    }
+
+    @Benchmark
+    public boolean hasUniqueElements() {
+        return Algorithms.hasUniqueElements(distinctInts);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.bench;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line (benchmark regex, -p, -f, -wi,
+ * ...) and writes the results both as JSON and as CSV, to jmh-results.json and jmh-results.csv
+ * unless -Djmh.results=&lt;prefix&gt; is given.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams() || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Collection<RunResult> results = new Runner(new OptionsBuilder().parent(cli).build()).run();
+
+        String prefix = System.getProperty("jmh.results", "jmh-results");
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, prefix + ".json").writeOut(results);
+        ResultFormatFactory.getInstance(ResultFormatType.CSV, prefix + ".csv").writeOut(results);
+        System.out.println("Results written to " + prefix + ".json and " + prefix + ".csv");
+    }
+}
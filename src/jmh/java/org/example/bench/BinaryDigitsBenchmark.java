@@ -0,0 +1,40 @@
+package org.example.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.Algorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BinaryDigitsBenchmark {
+
+    @Param({"1", "1000", "1000000", "1000000000"})
+    public int n;
+
+    // Returning the result hands it to an implicit Blackhole, so the call cannot be eliminated.
+    // Reading the non-final field n also keeps the JIT from constant-folding the input.
+
+    @Benchmark
+    public int countBinaryDigitsRecursive() {
+        return Algorithms.countBinaryDigitsRecursive(n);
+    }
+
+    @Benchmark
+    public int countBinaryDigits() {
+        return Algorithms.countBinaryDigits(n);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.bench;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.example.Algorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class FactorialBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LongInput {
+        @Param({"0", "10", "20"})
+        public int longN;
+    }
+
+    @State(Scope.Benchmark)
+    public static class BigInput {
+        @Param({"1000", "100000", "1000000"})
+        public int bigN;
+    }
+
+    @Benchmark
+    public long factorial(LongInput input) {
+        return Algorithms.factorial(input.longN);
+    }
+
+    @Benchmark
+    public BigInteger bigFactorial(BigInput input) {
+        return Algorithms.bigFactorial(input.bigN);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.example.Algorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class MatrixBenchmark {
+
+    @Param({"64", "256", "512"})
+    public int size;
+
+    private double[][] a;
+    private double[][] b;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomMatrix(size, random);
+        b = randomMatrix(size, random);
+    }
+
+    static double[][] randomMatrix(int n, Random random) {
+        double[][] m = new double[n][n];
+        for (double[] row : m) {
+            for (int j = 0; j < n; j++) { row[j] = random.nextDouble() * 100.0; }
+        }
+        return m;
+    }
+
+    /** Elimination works in place, so every invocation gets a fresh copy outside the timed region. */
+    @State(Scope.Thread)
+    public static class EliminationInput {
+        double[][] original;
+        double[][] matrix;
+
+        @Setup(Level.Trial)
+        public void setUp(MatrixBenchmark parent) {
+            original = randomMatrix(parent.size, new Random(7));
+            matrix = new double[parent.size][];
+        }
+
+        @Setup(Level.Invocation)
+        public void copy() {
+            for (int i = 0; i < original.length; i++) { matrix[i] = original[i].clone(); }
+        }
+    }
+
+    @Benchmark
+    public void multiplyMatrices(Blackhole bh) {
+        bh.consume(Algorithms.multiplyMatrices(a, b));
+    }
+
+    @Benchmark
+    public void multiplyMatricesParallel(Blackhole bh) {
+        bh.consume(Algorithms.multiplyMatricesParallel(a, b, ForkJoinPool.commonPool()));
+    }
+
+    @Benchmark
+    public void multiplyMatricesStrassen(Blackhole bh) {
+        bh.consume(Algorithms.multiplyMatricesStrassen(a, b));
+    }
+
+    @Benchmark
+    public void multiplyMatricesVectorized(Blackhole bh) {
+        bh.consume(Algorithms.multiplyMatricesVectorized(a, b));
+    }
+
+    @Benchmark
+    public void gaussianElimination(EliminationInput input, Blackhole bh) {
+        bh.consume(Algorithms.gaussianElimination(input.matrix));
+        bh.consume(input.matrix);
+    }
+}
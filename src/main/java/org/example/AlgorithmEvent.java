@@ -0,0 +1,38 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one instrumented algorithm call. Disabled unless a recording is running
+ * (e.g. java -XX:StartFlightRecording=filename=run.jfr ...); the event's own duration is the wall time.
+ */
+@Name("org.example.AlgorithmCall")
+@Label("Algorithm Call")
+@Category({"Algorithms"})
+@Description("One call to an algorithm, with its input size, allocation and CPU time")
+@StackTrace(false)
+final class AlgorithmEvent extends jdk.jfr.Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Input Size")
+    long inputSize;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("CPU Time")
+    @Timespan
+    long cpuTimeNs;
+
+    @Label("GC Count")
+    long gcCount;
+}
@@ -1,7 +1,20 @@
 package org.example;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 public class Algorithms {
 
+    // The Vector API is an incubator module; the SIMD variants only use it when the JVM was
+    // started with --add-modules jdk.incubator.vector and fall back to the scalar loops otherwise.
+    private static final boolean VECTOR_API_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    public static boolean isVectorApiAvailable() {
+        return VECTOR_API_AVAILABLE;
+    }
+
     public static int countBinaryDigitsRecursive(int n) {
         if (n <= 0) throw new IllegalArgumentException("Positive input only.");
         if (n == 1) { return 1; } else { return countBinaryDigitsRecursive(n / 2) + 1; }
@@ -15,25 +28,141 @@ public class Algorithms {
     }
 
     public static long factorial(int n) {
-        if (n < 0) throw new IllegalArgumentException("Non-negative input only.");
-        if (n == 0) { return 1; } else { return factorial(n - 1) * n; }
+        // Table lookup: only 0! through 20! fit in a long, larger n throws ArithmeticException
+        return FactorialEngine.factorialExact(n);
+    }
+
+    public static BigInteger bigFactorial(int n) {
+        return FactorialEngine.factorial(n);
+    }
+
+    public static BigInteger bigFactorial(int n, ForkJoinPool pool) {
+        return FactorialEngine.factorial(n, pool);
     }
 
+    /**
+     * Multiplies two square matrices. A large, mostly-zero A (see {@link SparseMatrix#ROUTING_DENSITY})
+     * is compressed and multiplied in O(nonzeros * N); the result is bit-identical to the dense
+     * kernel's because both add the same nonzero terms in the same order. Skipping a zero of one
+     * operand is only exact when the other is finite (0 * Inf is NaN), so the sparse path requires a
+     * finite B, and compressing B as well requires a finite A. The density probe stops as soon as it
+     * has seen too many nonzeros, so dense inputs pay for a short prefix scan only.
+     */
     public static double[][] multiplyMatrices(double[][] A, double[][] B) {
+        checkSquareCompatible(A, B);
+        if (SparseMatrix.isSparseCandidate(A) && SparseMatrix.allFinite(B)) {
+            SparseMatrix a = SparseMatrix.fromDense(A);
+            if (SparseMatrix.isSparseCandidate(B) && SparseMatrix.allFinite(A)) return a.multiply(SparseMatrix.fromDense(B)).toDense();
+            return a.multiply(B);
+        }
+        return multiplyMatrices(A, B, Autotuner.profile().tileSize());
+    }
+
+    public static double[][] multiplyMatrices(double[][] A, double[][] B, int tileSize) {
+        checkSquareCompatible(A, B);
+        // Copy into contiguous row-major storage so the blocked kernel walks memory sequentially.
+        return new MatrixMultiplier(tileSize).multiply(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
+    public static Matrix multiplyMatrices(Matrix A, Matrix B) {
+        return MatrixMultiplier.defaultMultiplier().multiply(A, B);
+    }
+
+    /**
+     * Multiplies two square matrices into C, overwriting its rows, using the dense blocked kernel.
+     * Operands are staged in thread-local workspaces, so steady-state calls allocate nothing. C may
+     * be A or B. The workspaces keep up to three N x N buffers per thread for later calls, for N up to
+     * 1448; larger products allocate their staging buffers on every call instead.
+     * @param C An existing N x N matrix.
+     */
+    public static void multiplyInto(double[][] A, double[][] B, double[][] C) {
+        checkSquareCompatible(A, B);
+        int n = A.length;
+        if (C == null || C.length != n) throw new IllegalArgumentException("Output must be " + n + "x" + n + ".");
+        for (double[] row : C) {
+            if (row == null || row.length != n) throw new IllegalArgumentException("Output must be " + n + "x" + n + ".");
+        }
+        int size = Math.multiplyExact(n, n);
+        Workspace workspace = Workspace.acquire();
+        try {
+            double[] a = workspace.a(size), b = workspace.b(size), c = workspace.c(size);
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(A[i], 0, a, i * n, n);
+                System.arraycopy(B[i], 0, b, i * n, n);
+            }
+            Arrays.fill(c, 0, size, 0.0);
+            MatrixMultiplier.defaultMultiplier().multiplyBlock(a, b, c, n, n, n, 0, n, 0, n);
+            for (int i = 0; i < n; i++) { System.arraycopy(c, i * n, C[i], 0, n); }
+        } finally {
+            workspace.release();
+        }
+    }
+
+    public static void multiplyInto(Matrix A, Matrix B, Matrix C) {
+        MatrixMultiplier.defaultMultiplier().multiplyInto(A, B, C);
+    }
+
+    /**
+     * Multiplies on the pool's workers. Products smaller than the tuned
+     * {@link TuningProfile#multiplyParallelCutoff()} run serially on the calling thread instead.
+     */
+    public static double[][] multiplyMatricesParallel(double[][] A, double[][] B, ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null.");
+        checkSquareCompatible(A, B);
+        TuningProfile tuning = Autotuner.profile();
+        if (A.length < tuning.multiplyParallelCutoff()) return multiplyMatrices(A, B, tuning.tileSize());
+        return new ParallelMatrixMultiplier(pool).multiply(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
+    public static double[][] multiplyMatricesParallel(double[][] A, double[][] B, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return multiplyMatricesParallel(A, B, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static double[][] multiplyMatricesStrassen(double[][] A, double[][] B) {
+        return multiplyMatricesStrassen(A, B, StrassenMultiplier.DEFAULT_CROSSOVER);
+    }
+
+    public static double[][] multiplyMatricesStrassen(double[][] A, double[][] B, int crossover) {
+        checkSquareCompatible(A, B);
+        return new StrassenMultiplier(crossover).multiply(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
+    public static double[][] multiplyMatricesVectorized(double[][] A, double[][] B) {
+        if (!VECTOR_API_AVAILABLE) return multiplyMatrices(A, B);
+        checkSquareCompatible(A, B);
+        Matrix a = Matrix.of(A);
+        Matrix b = Matrix.of(B);
+        Matrix c = new Matrix(a.rows(), b.cols());
+        VectorKernels.multiply(a.data(), b.data(), c.data(), a.rows(), a.cols(), b.cols(), Autotuner.profile().tileSize());
+        return c.toArray();
+    }
+
+    public static double[][] multiplyMatrices(SparseMatrix A, double[][] B) {
+        if (A == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        return A.multiply(B);
+    }
+
+    public static SparseMatrix multiplyMatrices(SparseMatrix A, SparseMatrix B) {
+        if (A == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        return A.multiply(B);
+    }
+
+    public static void multiplyMatrices(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix C) {
+        OutOfCoreOperations.multiply(A, B, C, OutOfCoreOperations.DEFAULT_TILE_SIZE);
+    }
+
+    private static void checkSquareCompatible(double[][] A, double[][] B) {
         // Ensure matrices are compatible for multiplication.
         // For simplicity, assuming square matrices of same dimension for this example.
         if (A.length != A[0].length || B.length != B[0].length || A[0].length != B.length) {
             throw new IllegalArgumentException("Matrices must be square and compatible for multiplication (A.cols == B.rows).");
         }
-        int n = A.length;
-        double[][] C = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                C[i][j] = 0.0;
-                for (int k = 0; k < n; k++) { C[i][j] += A[i][k] * B[k][j]; }
-            }
-        }
-        return C;
     }
 
     public static int sequentialSearch(int[] A, int K) {
@@ -43,6 +172,20 @@ public class Algorithms {
         return (i < A.length) ? i : -1;
     }
 
+    public static int sequentialSearchVectorized(int[] A, int K) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        return VECTOR_API_AVAILABLE ? VectorKernels.sequentialSearch(A, K) : sequentialSearch(A, K);
+    }
+
+    /** First-index search split across the pool; arrays below the tuned serial threshold stay serial. */
+    public static int sequentialSearchParallel(int[] A, int K, ForkJoinPool pool) {
+        return new ParallelScans(pool).sequentialSearch(A, K);
+    }
+
+    public static int[] sequentialSearchAll(int[] A, int[] keys) {
+        return BatchSearch.searchAll(A, keys);
+    }
+
     public static double findMaxElement(double[] A) {
         if (A == null || A.length == 0) throw new IllegalArgumentException("Empty list.");
         double maxval = A[0];
@@ -52,60 +195,107 @@ public class Algorithms {
         return maxval;
     }
 
+    /** Parallel reduction with exactly the serial result, NaN and signed zeros included. */
+    public static double findMaxElementParallel(double[] A, ForkJoinPool pool) {
+        return new ParallelScans(pool).findMaxElement(A);
+    }
+
+    public static double findMaxElementVectorized(double[] A) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Empty list.");
+        return VECTOR_API_AVAILABLE ? VectorKernels.findMaxElement(A) : findMaxElement(A);
+    }
+
     public static boolean hasUniqueElements(int[] A) {
         if (A == null) throw new IllegalArgumentException("Array cannot be null.");
-        for (int i = 0; i < A.length - 1; i++) {
-            for (int j = i + 1; j < A.length; j++) {
-                if (A[i] == A[j]) { return false; }
+        return UniquenessChecker.check(A).unique();
+    }
+
+    public static boolean hasUniqueElementsParallel(int[] A, ForkJoinPool pool) {
+        return new ParallelScans(pool).checkUnique(A).unique();
+    }
+
+    public static UniquenessChecker.Result findDuplicate(int[] A, UniquenessChecker.Strategy strategy) {
+        return UniquenessChecker.check(A, strategy);
+    }
+
+    /**
+     * Reduces A to row-echelon form in place using partial pivoting.
+     * Zero pivots are skipped and reported in the result rather than printed.
+     */
+    public static EliminationResult gaussianElimination(double[][] A) {
+        return GaussianEliminator.serial().eliminate(A);
+    }
+
+    /**
+     * Non-destructive elimination: copies src into dst and reduces dst, leaving src unchanged.
+     * Allocates nothing when every pivot is nonzero, so one dst can be reused across calls.
+     * @param dst An existing matrix of the same shape as src; its rows may be reordered.
+     */
+    public static EliminationResult gaussianEliminationInto(double[][] src, double[][] dst) {
+        if (src == null || src.length == 0 || src[0] == null) throw new IllegalArgumentException("Matrix is empty or null.");
+        if (dst == null || dst.length != src.length) throw new IllegalArgumentException("Destination must have the same shape as the source.");
+        for (int i = 0; i < src.length; i++) {
+            if (src[i] == null || dst[i] == null || dst[i].length != src[i].length || src[i].length != src[0].length) {
+                throw new IllegalArgumentException("Destination must have the same shape as the source.");
             }
+            if (dst[i] != src[i]) System.arraycopy(src[i], 0, dst[i], 0, src[i].length);
         }
-        return true;
+        return GaussianEliminator.serial().eliminate(dst);
     }
 
-    public static void gaussianElimination(double[][] A) {
-        if (A == null || A.length == 0 || A[0].length == 0) {
-            System.out.println("Matrix is empty or null. No operation performed.");
-            return;
-        }
-        int n = A.length;
-        int m = A[0].length; // number of columns (n equations, m variables/augmented columns)
+    public static EliminationResult gaussianEliminationParallel(double[][] A, ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null.");
+        return new GaussianEliminator(pool, Autotuner.profile().eliminationParallelThreshold()).eliminate(A);
+    }
 
-        // For simplicity, this implementation assumes a square matrix for pivots and
-        // does not include full pivoting strategies (row swapping for non-zero pivots).
-        // A robust Gaussian elimination would need to handle zero pivots by swapping rows.
-        if (n > m) {
-            System.out.println("Warning: More rows than columns, may not be solvable with basic Gaussian elimination.");
+    public static EliminationResult gaussianEliminationParallel(double[][] A, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return gaussianEliminationParallel(A, pool);
+        } finally {
+            pool.shutdown();
         }
+    }
 
-        for (int i = 0; i < n; i++) { // For each pivot row
-            // Find pivot (largest absolute value in the current column below or at current row)
-            int maxRow = i;
-            for (int k = i + 1; k < n; k++) {
-                if (Math.abs(A[k][i]) > Math.abs(A[maxRow][i])) {
-                    maxRow = k;
-                }
-            }
+    public static EliminationResult gaussianElimination(OffHeapMatrix A) {
+        if (A == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        return OutOfCoreOperations.eliminate(A);
+    }
 
-            // Swap max row with current row
-            double[] temp = A[i];
-            A[i] = A[maxRow];
-            A[maxRow] = temp;
-
-            // Check if pivot is zero after potential swapping
-            if (A[i][i] == 0.0) {
-                System.out.println("Warning: Zero pivot encountered at row " + i + ", column " + i + ". Matrix may be singular or solution may not be unique/exist.");
-                // For a more complete solution, you might return false, throw an exception,
-                // or handle free variables. For this basic example, we will just proceed.
-                continue; // Skip elimination for this row if pivot is zero
-            }
+    public static LUDecomposition luDecomposition(double[][] A) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Matrix is empty or null.");
+        return LUDecomposition.factor(A);
+    }
 
-            // Eliminate column i below current row
-            for (int j = i + 1; j < n; j++) {
-                double factor = A[j][i] / A[i][i];
-                for (int k = i; k < m; k++) {
-                    A[j][k] -= A[i][k] * factor;
-                }
-            }
+    /**
+     * Solves Ax = b. A large, mostly-zero A whose nonzeros can be gathered into a narrow band is
+     * solved with the banded {@link SparseLU}; everything else uses the dense {@link LUDecomposition}.
+     */
+    public static double[] solveLinearSystem(double[][] A, double[] b) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Matrix is empty or null.");
+        if (A.length == A[0].length && SparseMatrix.isSparseCandidate(A)) {
+            SparseMatrix a = SparseMatrix.fromDense(A);
+            int[] ordering = SparseLU.ordering(a);
+            // The band costs N * (3 * bandwidth + 1) doubles; beyond a quarter of N dense LU is no worse
+            if (SparseLU.bandwidth(a, ordering) * 4 <= A.length) return SparseLU.factor(a, ordering).solve(b);
         }
+        return luDecomposition(A).solve(b);
+    }
+
+    /**
+     * Solves Ax = b with a float factorization refined to double accuracy, falling back to the double
+     * factorization when refinement does not converge. See {@link MixedPrecisionSolver}.
+     */
+    public static MixedPrecisionSolver.Result solveLinearSystemMixed(double[][] A, double[] b) {
+        return new MixedPrecisionSolver().solve(A, b);
+    }
+
+    /**
+     * Solves Ax = b with the banded {@link SparseLU}. Its memory grows with N times the bandwidth
+     * after reordering, not with the number of nonzeros.
+     */
+    public static double[] solveLinearSystem(SparseMatrix A, double[] b) {
+        return SparseLU.factor(A).solve(b);
     }
 }
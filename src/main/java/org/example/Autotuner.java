@@ -0,0 +1,205 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Chooses the performance parameters in {@link TuningProfile} for the machine it runs on, by timing
+ * each candidate on a short, fixed workload and keeping the fastest. A full calibration takes a few
+ * seconds, so the result is saved to a properties file and later starts only read it back.
+ *
+ * The installed profile is what the library consults: multiplyMatrices and multiplyInto for the
+ * tile size, multiplyMatricesParallel for its cutoff, gaussianEliminationParallel,
+ * {@link ParallelScans} and the AUTO uniqueness check. Nothing is read from disk implicitly: the
+ * built-in {@link TuningProfile#DEFAULTS} apply until an application calls {@link #loadOrCalibrate()}
+ * or {@link #install(TuningProfile)}.
+ *
+ * Each parameter is calibrated once, on one workload size (the tile on a 256 x 256 product,
+ * the elimination threshold on a 384 x 384 matrix), and applies to every input size. The cutoffs
+ * and crossovers are the only size dependence recorded. A tile or threshold that is best at one
+ * size can be merely good at another, which is accepted to keep calibration to a few seconds.
+ */
+public final class Autotuner {
+
+    /** System property overriding the profile location. */
+    public static final String PROFILE_PROPERTY = "org.example.tuningProfile";
+
+    private static final int[] TILE_CANDIDATES = {16, 32, 48, 64, 96, 128};
+    private static final int[] MULTIPLY_SIZES = {64, 128, 256, 512};
+    private static final int[] ELIMINATION_THRESHOLDS = {1 << 12, 1 << 14, 1 << 16, 1 << 18, Integer.MAX_VALUE};
+    private static final int[] UNIQUENESS_SIZES = {16, 64, 256, 1024, 4096, 16384};
+    /** Parallel variants must beat serial by this factor to be chosen, so noise does not enable them. */
+    private static final double PARALLEL_MARGIN = 0.9;
+    private static final int REPETITIONS = 3;
+    /** Each timed sample repeats small operations until it lasts at least this long. */
+    private static final long MIN_SAMPLE_NANOS = 1_000_000;
+
+    private static final AtomicReference<TuningProfile> current = new AtomicReference<>(TuningProfile.DEFAULTS);
+    @SuppressWarnings("unused")
+    private static volatile Object sink; // Keeps results reachable so the JIT cannot drop the work
+
+    private Autotuner() {
+    }
+
+    public static Path defaultProfilePath() {
+        String override = System.getProperty(PROFILE_PROPERTY);
+        return override != null ? Path.of(override) : Path.of(System.getProperty("user.home"), ".algorithms-tuning.properties");
+    }
+
+    /** The installed profile, or {@link TuningProfile#DEFAULTS}; never reads a file or calibrates. */
+    public static TuningProfile profile() {
+        return current.get();
+    }
+
+    public static void install(TuningProfile profile) {
+        if (profile == null) throw new IllegalArgumentException("Profile cannot be null.");
+        current.set(profile);
+    }
+
+    public static TuningProfile loadOrCalibrate() throws IOException {
+        return loadOrCalibrate(defaultProfilePath());
+    }
+
+    /**
+     * Installs the profile saved in file, or calibrates, saves and installs a new one when the file is
+     * missing, unreadable or was written on a different machine.
+     */
+    public static TuningProfile loadOrCalibrate(Path file) throws IOException {
+        Optional<TuningProfile> saved = loadValid(file);
+        if (saved.isPresent()) {
+            install(saved.get());
+            return saved.get();
+        }
+        return recalibrate(file);
+    }
+
+    /**
+     * Calibrates, installs the result and overwrites file with it.
+     * @throws IOException If the profile could not be saved; it is installed regardless.
+     */
+    public static TuningProfile recalibrate(Path file) throws IOException {
+        TuningProfile profile = calibrate();
+        install(profile);
+        profile.store(file);
+        return profile;
+    }
+
+    private static Optional<TuningProfile> loadValid(Path file) {
+        try {
+            return TuningProfile.load(file).filter(TuningProfile::matchesThisMachine);
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            return Optional.empty(); // A damaged profile is recalibrated rather than failing startup
+        }
+    }
+
+    /** Runs every calibration and returns the result without installing or saving it. */
+    public static TuningProfile calibrate() {
+        Random random = new Random(42);
+        boolean parallel = ForkJoinPool.getCommonPoolParallelism() > 1;
+        int tileSize = calibrateTileSize(random);
+        return new TuningProfile(tileSize,
+                parallel ? calibrateMultiplyCutoff(random, tileSize) : Integer.MAX_VALUE,
+                parallel ? calibrateEliminationThreshold(random) : Integer.MAX_VALUE,
+                parallel ? calibrateScanThreshold(random) : Integer.MAX_VALUE,
+                calibrateHashSortCrossover(random),
+                TuningProfile.fingerprint());
+    }
+
+    private static int calibrateTileSize(Random random) {
+        Matrix a = randomMatrix(256, random), b = randomMatrix(256, random);
+        int best = MatrixMultiplier.DEFAULT_TILE_SIZE;
+        long bestTime = Long.MAX_VALUE;
+        for (int tile : TILE_CANDIDATES) {
+            MatrixMultiplier multiplier = new MatrixMultiplier(tile);
+            long t = time(() -> multiplier.multiply(a, b));
+            if (t < bestTime) { bestTime = t; best = tile; }
+        }
+        return best;
+    }
+
+    /** The smallest N at which the fork/join product is clearly faster than the serial one. */
+    private static int calibrateMultiplyCutoff(Random random, int tileSize) {
+        MatrixMultiplier serial = new MatrixMultiplier(tileSize);
+        ParallelMatrixMultiplier parallel = new ParallelMatrixMultiplier(ForkJoinPool.commonPool(), tileSize,
+                ParallelMatrixMultiplier.DEFAULT_SEQUENTIAL_CUTOFF);
+        for (int n : MULTIPLY_SIZES) {
+            Matrix a = randomMatrix(n, random), b = randomMatrix(n, random);
+            if (time(() -> parallel.multiply(a, b)) < PARALLEL_MARGIN * time(() -> serial.multiply(a, b))) return n;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static int calibrateEliminationThreshold(Random random) {
+        double[][] source = randomMatrix(384, random).toArray();
+        double[][] work = new double[source.length][source.length];
+        int best = GaussianEliminator.DEFAULT_PARALLEL_THRESHOLD;
+        long bestTime = Long.MAX_VALUE;
+        for (int threshold : ELIMINATION_THRESHOLDS) {
+            GaussianEliminator eliminator = new GaussianEliminator(ForkJoinPool.commonPool(), threshold);
+            // The O(N^2) copy is the same for every candidate, so it does not change the ranking
+            long t = time(() -> {
+                for (int i = 0; i < source.length; i++) { System.arraycopy(source[i], 0, work[i], 0, source.length); }
+                return eliminator.eliminate(work);
+            });
+            if (t < bestTime) { bestTime = t; best = threshold; }
+        }
+        return best;
+    }
+
+    /** The smallest array length at which the parallel max reduction is clearly faster than the serial loop. */
+    private static int calibrateScanThreshold(Random random) {
+        ParallelScans scans = new ParallelScans(ForkJoinPool.commonPool(), 1);
+        for (int n = 1 << 12; n <= 1 << 22; n <<= 2) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) { values[i] = random.nextDouble(); }
+            if (time(() -> scans.findMaxElement(values)) < PARALLEL_MARGIN * time(() -> Algorithms.findMaxElement(values))) return n;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /** The first size at which hashing beats sorting, on distinct values spread over the whole int range. */
+    private static int calibrateHashSortCrossover(Random random) {
+        for (int n : UNIQUENESS_SIZES) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) { values[i] = random.nextInt(); }
+            long hash = time(() -> UniquenessChecker.check(values, UniquenessChecker.Strategy.HASH));
+            long sort = time(() -> UniquenessChecker.check(values, UniquenessChecker.Strategy.SORT));
+            if (hash <= sort) return n == UNIQUENESS_SIZES[0] ? 0 : n;
+        }
+        return 2 * UNIQUENESS_SIZES[UNIQUENESS_SIZES.length - 1];
+    }
+
+    /**
+     * Best-of-{@value #REPETITIONS} time per call, after one warm-up sample. Short operations are
+     * repeated within a sample so that timer resolution does not dominate.
+     */
+    private static long time(Supplier<?> operation) {
+        long batch = 1;
+        long best = Long.MAX_VALUE;
+        for (int rep = -1; rep < REPETITIONS; rep++) {
+            long start = System.nanoTime();
+            for (long i = 0; i < batch; i++) { sink = operation.get(); }
+            long elapsed = System.nanoTime() - start;
+            if (rep < 0) {
+                // Size the batch from the warm-up sample
+                batch = Math.max(1, MIN_SAMPLE_NANOS / Math.max(1, elapsed));
+                continue;
+            }
+            best = Math.min(best, elapsed / batch);
+        }
+        return best;
+    }
+
+    private static Matrix randomMatrix(int n, Random random) {
+        Matrix m = new Matrix(n, n);
+        double[] data = m.data();
+        for (int i = 0; i < data.length; i++) { data[i] = random.nextDouble() * 200 - 100; }
+        return m;
+    }
+}
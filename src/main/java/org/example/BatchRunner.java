@@ -0,0 +1,204 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Non-interactive execution of a job list, one job per line:
+ *
+ * <pre>
+ * # comment
+ * multiply  A.bin B.bin -> C.bin
+ * eliminate M.csv -> reduced.csv
+ * search    values.bin 42
+ * max       samples.bin
+ * unique    ids.csv
+ * factorial 1000 -> big.txt
+ * count     1000000
+ * </pre>
+ *
+ * Operand files are read with {@link OperandIO} (".bin" is binary, anything else CSV). search and max
+ * on binary files stream through {@link StreamingScans} without loading the array. Each job prints
+ * one summary line to standard output. With "-> FILE" the full result also goes to that file, binary
+ * for ".bin" (matrices as in OperandIO; search as int64, max as float64, unique as one byte,
+ * count as int32, factorial as int32 length plus big-endian two's-complement bytes) and text
+ * otherwise. Without it, matrix results are printed as CSV after the summary line.
+ *
+ * A failing job is reported and the batch continues; the exit status is 1 if any job failed.
+ */
+public final class BatchRunner {
+
+    private final PrintWriter out;
+    private double[][] pendingMatrix; // printed after the job's summary line
+
+    public BatchRunner(Writer out) {
+        this.out = new PrintWriter(out);
+    }
+
+    /** Usage: Main --batch [JOBFILE | -]; reads jobs from standard input when no file (or "-") is given. */
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            System.err.println("Usage: Main --batch [JOBFILE | -]");
+            System.exit(2);
+        }
+        int failures;
+        try (Reader jobs = args.length == 0 || args[0].equals("-")
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            Writer stdout = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            failures = new BatchRunner(stdout).run(new BufferedReader(jobs));
+        } catch (IOException e) {
+            System.err.println("Error reading jobs: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Runs every job in order and flushes the output at the end.
+     * @return The number of jobs that failed.
+     */
+    public int run(BufferedReader jobs) throws IOException {
+        int failures = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = jobs.readLine()) != null) {
+            lineNumber++;
+            String job = line.strip();
+            if (job.isEmpty() || job.startsWith("#")) continue;
+            long start = System.nanoTime();
+            try {
+                String summary = execute(job);
+                out.println(lineNumber + ": " + summary + " (" + (System.nanoTime() - start) / 1_000_000 + " ms)");
+                if (pendingMatrix != null) OperandIO.writeCsvMatrix(out, pendingMatrix);
+            } catch (NoSuchFileException e) {
+                failures++;
+                out.println(lineNumber + ": ERROR File not found: " + e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                failures++;
+                out.println(lineNumber + ": ERROR " + e.getMessage());
+            } finally {
+                pendingMatrix = null;
+            }
+        }
+        out.flush();
+        return failures;
+    }
+
+    private String execute(String job) throws IOException {
+        String[] words = job.split("\\s+");
+        Path output = null;
+        int argc = words.length;
+        if (argc >= 3 && words[argc - 2].equals("->")) {
+            output = Path.of(words[argc - 1]);
+            argc -= 2;
+        }
+        String op = words[0];
+        String[] args = Arrays.copyOfRange(words, 1, argc);
+        return switch (op) {
+            case "multiply" -> {
+                expectArgs(op, args, 2);
+                double[][] C = Algorithms.multiplyMatrices(OperandIO.readMatrix(Path.of(args[0])), OperandIO.readMatrix(Path.of(args[1])));
+                writeMatrixResult(C, output);
+                yield "multiply " + C.length + "x" + C[0].length;
+            }
+            case "eliminate" -> {
+                expectArgs(op, args, 1);
+                double[][] M = OperandIO.readMatrix(Path.of(args[0]));
+                EliminationResult result = Algorithms.gaussianElimination(M);
+                writeMatrixResult(M, output);
+                yield "eliminate " + M.length + "x" + M[0].length + " " + result.status()
+                        + (result.isComplete() ? "" : " zero pivots " + Arrays.toString(result.zeroPivots()));
+            }
+            case "search" -> {
+                expectArgs(op, args, 2);
+                long index = search(Path.of(args[0]), Integer.parseInt(args[1]));
+                writeScalar(output, String.valueOf(index), ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(index));
+                yield "search " + args[1] + " = " + index;
+            }
+            case "max" -> {
+                expectArgs(op, args, 1);
+                double max = max(Path.of(args[0]));
+                writeScalar(output, String.valueOf(max), ByteBuffer.allocate(Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(max));
+                yield "max = " + max;
+            }
+            case "unique" -> {
+                expectArgs(op, args, 1);
+                boolean unique = Algorithms.hasUniqueElements(OperandIO.readIntArray(Path.of(args[0])));
+                writeScalar(output, String.valueOf(unique), ByteBuffer.allocate(1).put((byte) (unique ? 1 : 0)));
+                yield "unique = " + unique;
+            }
+            case "count" -> {
+                expectArgs(op, args, 1);
+                int digits = Algorithms.countBinaryDigits(Integer.parseInt(args[0]));
+                writeScalar(output, String.valueOf(digits), ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(digits));
+                yield "count " + args[0] + " = " + digits;
+            }
+            case "factorial" -> {
+                expectArgs(op, args, 1);
+                BigInteger value = Algorithms.bigFactorial(Integer.parseInt(args[0]));
+                if (output == null) yield "factorial " + args[0] + " = " + value;
+                byte[] bytes = value.toByteArray();
+                writeScalar(output, value.toString(), ByteBuffer.allocate(Integer.BYTES + bytes.length)
+                        .order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length).put(bytes));
+                yield "factorial " + args[0] + " (" + value.bitLength() + " bits)";
+            }
+            default -> throw new IllegalArgumentException("Unknown operation: " + op + ".");
+        };
+    }
+
+    private static void expectArgs(String op, String[] args, int count) {
+        if (args.length != count) {
+            throw new IllegalArgumentException(op + " takes " + count + " argument" + (count == 1 ? "" : "s") + ".");
+        }
+    }
+
+    private static long search(Path file, int key) throws IOException {
+        if (!OperandIO.isBinary(file)) return Algorithms.sequentialSearch(OperandIO.readIntArray(file), key);
+        try (FileChannel channel = OperandIO.openArrayBody(file, Integer.BYTES)) {
+            return StreamingScans.sequentialSearch(channel, key);
+        }
+    }
+
+    private static double max(Path file) throws IOException {
+        if (!OperandIO.isBinary(file)) return Algorithms.findMaxElement(OperandIO.readDoubleArray(file));
+        try (FileChannel channel = OperandIO.openArrayBody(file, Double.BYTES)) {
+            return StreamingScans.findMaxElement(channel);
+        }
+    }
+
+    private void writeMatrixResult(double[][] matrix, Path output) throws IOException {
+        if (output != null) {
+            OperandIO.writeMatrix(output, matrix);
+        } else {
+            pendingMatrix = matrix;
+        }
+    }
+
+    private static void writeScalar(Path output, String text, ByteBuffer binary) throws IOException {
+        if (output == null) return;
+        if (OperandIO.isBinary(output)) {
+            try (FileChannel channel = OperandIO.openForWrite(output)) {
+                OperandIO.drain(channel, binary);
+            }
+        } else {
+            Files.writeString(output, text + System.lineSeparator(), StandardCharsets.UTF_8);
+        }
+    }
+}
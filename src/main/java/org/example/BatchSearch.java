@@ -0,0 +1,68 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Answers many sequentialSearch queries against the same array.
+ *
+ * Small batches are answered in one pass over the data: the keys go into a tiny hash map that
+ * stays in L1, and the scan stops as soon as every key has been found. Larger batches build a
+ * {@link SearchIndex} once (O(N)) and then answer each key in O(1) or O(log N). Callers that
+ * query the same array across batches should build the index themselves and keep it.
+ * Every path returns the index of the first occurrence, exactly like sequentialSearch.
+ */
+public final class BatchSearch {
+
+    public enum IndexType { HASH, SORTED }
+
+    /** Batches up to this many keys are answered with a single scan instead of an index. */
+    public static final int SINGLE_PASS_MAX_KEYS = 32;
+
+    private BatchSearch() {
+    }
+
+    public static SearchIndex buildIndex(int[] A, IndexType type) {
+        if (type == null) throw new IllegalArgumentException("Index type cannot be null.");
+        return type == IndexType.SORTED ? new SortedSearchIndex(A) : new HashSearchIndex(A);
+    }
+
+    /**
+     * @param A The array to search.
+     * @param keys The keys to look up.
+     * @return result[i] is the first index of keys[i] in A, or -1.
+     */
+    public static int[] searchAll(int[] A, int[] keys) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        if (keys == null) throw new IllegalArgumentException("Keys cannot be null.");
+        if (keys.length <= SINGLE_PASS_MAX_KEYS) {
+            return singlePass(A, keys);
+        }
+        return buildIndex(A, IndexType.HASH).indexOfAll(keys);
+    }
+
+    private static int[] singlePass(int[] A, int[] keys) {
+        // Map each distinct key to a slot; duplicate keys share a slot
+        IntIntHashMap slotOf = new IntIntHashMap(keys.length);
+        int[] slotForKey = new int[keys.length];
+        int slots = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int existing = slotOf.putIfAbsent(keys[i], slots);
+            slotForKey[i] = existing == IntIntHashMap.NO_VALUE ? slots++ : existing;
+        }
+
+        int[] found = new int[slots];
+        Arrays.fill(found, -1);
+        int remaining = slots;
+        for (int i = 0; i < A.length && remaining > 0; i++) {
+            int slot = slotOf.get(A[i]);
+            if (slot != IntIntHashMap.NO_VALUE && found[slot] < 0) {
+                found[slot] = i;
+                remaining--;
+            }
+        }
+
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) { result[i] = found[slotForKey[i]]; }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * Resource usage of one instrumented call.
+ * @param wallNs Elapsed time.
+ * @param cpuNs CPU time of the calling thread, or -1 if the JVM cannot measure it.
+ * @param allocatedBytes Heap bytes allocated by the calling thread, or -1 if unsupported.
+ * @param gcCount Collections that completed during the call (JVM-wide, so other threads' garbage counts too).
+ * @param gcTimeMs Accumulated collection time during the call, in milliseconds (JVM-wide).
+ */
+public record CallProfile(String algorithm, long inputSize, long wallNs, long cpuNs,
+                          long allocatedBytes, long gcCount, long gcTimeMs) {
+}
@@ -0,0 +1,195 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Estimates empirical growth exponents from PerformanceAnalyzer CSV output and gates on regressions.
+ *
+ * For each algorithm the median time per input size (taken across all given runs) is fitted with a
+ * least-squares line in log-log space: log(time) = k * log(size) + c, so k is about 1 for O(n), 2 for
+ * O(n^2) and about 0 for O(log n). Against a baseline CSV, an algorithm regresses when its exponent
+ * grows by more than the exponent tolerance, or when the geometric mean of its time ratios over
+ * the common input sizes exceeds 1 + the time tolerance.
+ *
+ * Usage: ComplexityAnalyzer [--baseline FILE] [--exponent-tolerance X] [--time-tolerance X] RUN.csv...
+ * Exit status: 0 no regression, 1 regression found, 2 bad arguments or unreadable input.
+ */
+public class ComplexityAnalyzer {
+
+    public static final double DEFAULT_EXPONENT_TOLERANCE = 0.25;
+    public static final double DEFAULT_TIME_TOLERANCE = 0.5;
+
+    /**
+     * Log-log fit for one algorithm.
+     * @param exponent Slope of log(time) against log(size).
+     * @param rSquared Goodness of fit in [0, 1].
+     * @param medianTimes Median ExecutionTimeNs per input size.
+     */
+    public record Fit(String algorithm, double exponent, double rSquared, Map<Long, Double> medianTimes) {
+    }
+
+    public static void main(String[] args) {
+        Path baseline = null;
+        double exponentTolerance = DEFAULT_EXPONENT_TOLERANCE;
+        double timeTolerance = DEFAULT_TIME_TOLERANCE;
+        List<Path> runs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--baseline" -> baseline = Path.of(args[++i]);
+                    case "--exponent-tolerance" -> exponentTolerance = Double.parseDouble(args[++i]);
+                    case "--time-tolerance" -> timeTolerance = Double.parseDouble(args[++i]);
+                    default -> runs.add(Path.of(args[i]));
+                }
+            }
+            if (runs.isEmpty()) throw new IllegalArgumentException("No run files given.");
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: ComplexityAnalyzer [--baseline FILE] [--exponent-tolerance X] [--time-tolerance X] RUN.csv...");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            Map<String, Fit> current = fit(runs);
+            Map<String, Fit> base = baseline != null ? fit(List.of(baseline)) : Map.of();
+            System.out.println(String.format(Locale.ROOT, "%-30s %9s %6s %9s %10s", "Algorithm", "Exponent", "R^2", "Baseline", "TimeRatio"));
+            for (Fit fit : current.values()) {
+                Fit b = base.get(fit.algorithm());
+                System.out.println(String.format(Locale.ROOT, "%-30s %9.3f %6.3f %9s %10s", fit.algorithm(), fit.exponent(), fit.rSquared(),
+                        b != null ? String.format(Locale.ROOT, "%.3f", b.exponent()) : "-",
+                        b != null ? String.format(Locale.ROOT, "%.3f", timeRatio(fit, b)) : "-"));
+            }
+            List<String> regressions = compare(current, base, exponentTolerance, timeTolerance);
+            for (String regression : regressions) {
+                System.out.println("REGRESSION: " + regression);
+            }
+            System.exit(regressions.isEmpty() ? 0 : 1);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Reads one or more CSV runs and fits every algorithm that has at least two positive input sizes.
+     * @param csvFiles Files with Algorithm, InputSize and ExecutionTimeNs columns (any order, extra columns ignored).
+     * @return Fits keyed by algorithm name, in name order.
+     * @throws IOException If a file cannot be read.
+     */
+    public static Map<String, Fit> fit(List<Path> csvFiles) throws IOException {
+        Map<String, Map<Long, List<Double>>> samples = new TreeMap<>();
+        for (Path file : csvFiles) {
+            read(file, samples);
+        }
+        Map<String, Fit> fits = new TreeMap<>();
+        for (Map.Entry<String, Map<Long, List<Double>>> entry : samples.entrySet()) {
+            Map<Long, Double> medians = new TreeMap<>();
+            for (Map.Entry<Long, List<Double>> point : entry.getValue().entrySet()) {
+                medians.put(point.getKey(), median(point.getValue()));
+            }
+            Fit fit = fitLogLog(entry.getKey(), medians);
+            if (fit != null) fits.put(fit.algorithm(), fit);
+        }
+        return fits;
+    }
+
+    private static void read(Path file, Map<String, Map<Long, List<Double>>> samples) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) throw new IllegalArgumentException(file + " is empty.");
+            List<String> columns = Arrays.asList(header.trim().split(","));
+            int algorithmCol = columns.indexOf("Algorithm");
+            int sizeCol = columns.indexOf("InputSize");
+            int timeCol = columns.indexOf("ExecutionTimeNs");
+            if (algorithmCol < 0 || sizeCol < 0 || timeCol < 0) {
+                throw new IllegalArgumentException(file + " lacks Algorithm,InputSize,ExecutionTimeNs columns.");
+            }
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                String[] fields = line.split(",");
+                try {
+                    String algorithm = fields[algorithmCol].trim();
+                    long size = Long.parseLong(fields[sizeCol].trim());
+                    double time = Double.parseDouble(fields[timeCol].trim());
+                    samples.computeIfAbsent(algorithm, k -> new TreeMap<>())
+                           .computeIfAbsent(size, k -> new ArrayList<>()).add(time);
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    throw new IllegalArgumentException(file + ":" + lineNumber + ": malformed row.");
+                }
+            }
+        }
+    }
+
+    private static double median(List<Double> values) {
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    /** Least-squares fit of log(time) on log(size); sizes and times must be positive. */
+    static Fit fitLogLog(String algorithm, Map<Long, Double> medianTimes) {
+        int n = 0;
+        double sx = 0, sy = 0, sxx = 0, sxy = 0, syy = 0;
+        for (Map.Entry<Long, Double> point : medianTimes.entrySet()) {
+            if (point.getKey() <= 0 || point.getValue() <= 0) continue; // log undefined
+            double x = Math.log(point.getKey());
+            double y = Math.log(point.getValue());
+            n++;
+            sx += x; sy += y; sxx += x * x; sxy += x * y; syy += y * y;
+        }
+        double varX = n * sxx - sx * sx;
+        if (n < 2 || varX == 0) return null;
+        double slope = (n * sxy - sx * sy) / varX;
+        double varY = n * syy - sy * sy;
+        double rSquared = varY == 0 ? 1.0 : Math.pow(n * sxy - sx * sy, 2) / (varX * varY);
+        return new Fit(algorithm, slope, rSquared, medianTimes);
+    }
+
+    /** Geometric mean of current/baseline median times over the input sizes both runs share; NaN if none. */
+    static double timeRatio(Fit current, Fit baseline) {
+        double logSum = 0;
+        int common = 0;
+        for (Map.Entry<Long, Double> point : current.medianTimes().entrySet()) {
+            Double before = baseline.medianTimes().get(point.getKey());
+            if (before == null || before <= 0 || point.getValue() <= 0) continue;
+            logSum += Math.log(point.getValue() / before);
+            common++;
+        }
+        return common == 0 ? Double.NaN : Math.exp(logSum / common);
+    }
+
+    /**
+     * @return One message per regressed algorithm; empty when everything is within tolerance.
+     */
+    public static List<String> compare(Map<String, Fit> current, Map<String, Fit> baseline,
+                                       double exponentTolerance, double timeTolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Fit fit : current.values()) {
+            Fit before = baseline.get(fit.algorithm());
+            if (before == null) continue;
+            if (fit.exponent() - before.exponent() > exponentTolerance) {
+                regressions.add(String.format(Locale.ROOT, "%s exponent %.3f exceeds baseline %.3f by more than %.3f",
+                        fit.algorithm(), fit.exponent(), before.exponent(), exponentTolerance));
+            }
+            double ratio = timeRatio(fit, before);
+            if (!Double.isNaN(ratio) && ratio > 1.0 + timeTolerance) {
+                regressions.add(String.format(Locale.ROOT, "%s is %.2fx slower than baseline (tolerance %.2fx)",
+                        fit.algorithm(), ratio, 1.0 + timeTolerance));
+            }
+        }
+        return regressions;
+    }
+}
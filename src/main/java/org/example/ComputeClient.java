@@ -0,0 +1,148 @@
+package org.example;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking client for {@link ComputeServer} on the local machine. One request is in flight per
+ * client at a time; use one client per thread to have the server batch small requests together.
+ *
+ * Payloads per opcode (request / response):
+ * <ul>
+ *   <li>REGISTER_ARRAY: int array / int32 array id</li>
+ *   <li>UNREGISTER_ARRAY: int32 id / u8 removed</li>
+ *   <li>SEARCH: int32 array id, int32 key / int32 index or -1</li>
+ *   <li>COUNT_BINARY_DIGITS: int32 n / int32 digits</li>
+ *   <li>FIND_MAX: double array / float64</li>
+ *   <li>HAS_UNIQUE: int array / u8 (1 = unique)</li>
+ *   <li>FACTORIAL: int32 n / BigInteger.toByteArray() bytes</li>
+ *   <li>MULTIPLY: matrix A, matrix B / matrix</li>
+ *   <li>ELIMINATE: matrix / int array of zero pivots, reduced matrix</li>
+ *   <li>STATS: empty / UTF-8 text</li>
+ * </ul>
+ */
+public final class ComputeClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Connects to a server on the loopback interface. */
+    public ComputeClient(int port) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+    }
+
+    /** Uploads an array for later {@link #search} calls. */
+    public int registerArray(int[] values) throws IOException {
+        return call(ComputeServer.OP_REGISTER_ARRAY, intArray(values)).getInt();
+    }
+
+    public boolean unregisterArray(int arrayId) throws IOException {
+        return call(ComputeServer.OP_UNREGISTER_ARRAY, ByteBuffer.allocate(Integer.BYTES).putInt(arrayId)).get() != 0;
+    }
+
+    /** sequentialSearch against a registered array; concurrent calls from many clients are batched. */
+    public int search(int arrayId, int key) throws IOException {
+        return call(ComputeServer.OP_SEARCH, ByteBuffer.allocate(2 * Integer.BYTES).putInt(arrayId).putInt(key)).getInt();
+    }
+
+    public int countBinaryDigits(int n) throws IOException {
+        return call(ComputeServer.OP_COUNT_BINARY_DIGITS, ByteBuffer.allocate(Integer.BYTES).putInt(n)).getInt();
+    }
+
+    public double findMaxElement(double[] values) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(Integer.BYTES + values.length * Double.BYTES).putInt(values.length);
+        payload.asDoubleBuffer().put(values);
+        payload.position(payload.limit());
+        return call(ComputeServer.OP_FIND_MAX, payload).getDouble();
+    }
+
+    public boolean hasUniqueElements(int[] values) throws IOException {
+        return call(ComputeServer.OP_HAS_UNIQUE, intArray(values)).get() != 0;
+    }
+
+    public BigInteger factorial(int n) throws IOException {
+        ByteBuffer response = call(ComputeServer.OP_FACTORIAL, ByteBuffer.allocate(Integer.BYTES).putInt(n));
+        byte[] bytes = new byte[response.remaining()];
+        response.get(bytes);
+        return new BigInteger(bytes);
+    }
+
+    public double[][] multiplyMatrices(double[][] A, double[][] B) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(ComputeServer.matrixBytes(A) + ComputeServer.matrixBytes(B));
+        ComputeServer.writeMatrix(payload, A);
+        ComputeServer.writeMatrix(payload, B);
+        return ComputeServer.readMatrix(call(ComputeServer.OP_MULTIPLY, payload));
+    }
+
+    /**
+     * Eliminates a copy of the matrix on the server and copies the reduced rows back into it.
+     * @return The zero pivots encountered (see {@link EliminationResult}).
+     */
+    public EliminationResult gaussianElimination(double[][] matrix) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(ComputeServer.matrixBytes(matrix));
+        ComputeServer.writeMatrix(payload, matrix);
+        ByteBuffer response = call(ComputeServer.OP_ELIMINATE, payload);
+        int[] zeroPivots = ComputeServer.readIntArray(response);
+        double[][] reduced = ComputeServer.readMatrix(response);
+        for (int i = 0; i < matrix.length; i++) { System.arraycopy(reduced[i], 0, matrix[i], 0, matrix[i].length); }
+        return EliminationResult.of(zeroPivots, zeroPivots.length);
+    }
+
+    public String stats() throws IOException {
+        ByteBuffer response = call(ComputeServer.OP_STATS, ByteBuffer.allocate(0));
+        return new String(response.array(), response.position(), response.remaining(), StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer intArray(int[] values) {
+        ByteBuffer payload = ByteBuffer.allocate(Integer.BYTES + values.length * Integer.BYTES).putInt(values.length);
+        payload.asIntBuffer().put(values);
+        return payload.position(payload.limit());
+    }
+
+    /**
+     * Sends one frame and waits for its response.
+     * @param payload A buffer whose written content (position 0 up to the current position) is sent.
+     * @throws ServerBusyException If the server rejected the request.
+     * @throws IllegalArgumentException If the server reported an error.
+     */
+    private ByteBuffer call(byte op, ByteBuffer payload) throws IOException {
+        byte[] body;
+        int status;
+        // A lock rather than synchronized, so a virtual thread waiting on the socket does not pin its carrier
+        lock.lock();
+        try {
+            out.writeByte(op);
+            out.writeInt(payload.position());
+            out.write(payload.array(), 0, payload.position());
+            out.flush();
+
+            status = in.readUnsignedByte();
+            body = new byte[in.readInt()];
+            in.readFully(body);
+        } finally {
+            lock.unlock();
+        }
+        if (status == ComputeServer.STATUS_BUSY) throw new ServerBusyException();
+        if (status != ComputeServer.STATUS_OK) throw new IllegalArgumentException(new String(body, StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(body);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,477 @@
+package org.example;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Long-lived local service exposing {@link Algorithms} over a loopback TCP socket, so the JIT stays
+ * warm across requests. Each connection is served by its own virtual thread.
+ *
+ * Wire format (big-endian, as written by DataOutputStream): a request is opcode (u8), payload length
+ * (int32) and payload; a response is status (u8), payload length (int32) and payload. Arrays are an
+ * int32 length followed by the elements; matrices are int32 rows, int32 cols and row-major doubles.
+ * Error responses carry a UTF-8 message. See {@link ComputeClient} for the payload of each opcode.
+ *
+ * Small requests (SEARCH against a registered array, COUNT_BINARY_DIGITS) go into one bounded queue.
+ * A single batching thread drains whatever has accumulated, up to MAX_BATCH requests, and answers all
+ * searches against the same array together through {@link BatchSearch} or a cached {@link SearchIndex}.
+ * Heavy requests run on a bounded pool with one thread per core. When either queue is full the
+ * request is answered with STATUS_BUSY instead of waiting, so clients see backpressure immediately.
+ * STATS returns the request, batch and latency counters as "name=value" lines.
+ */
+public final class ComputeServer implements AutoCloseable {
+
+    public static final byte OP_REGISTER_ARRAY = 1;
+    public static final byte OP_SEARCH = 2;
+    public static final byte OP_COUNT_BINARY_DIGITS = 3;
+    public static final byte OP_FIND_MAX = 4;
+    public static final byte OP_HAS_UNIQUE = 5;
+    public static final byte OP_FACTORIAL = 6;
+    public static final byte OP_MULTIPLY = 7;
+    public static final byte OP_ELIMINATE = 8;
+    public static final byte OP_STATS = 9;
+    public static final byte OP_UNREGISTER_ARRAY = 10;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+    public static final byte STATUS_BUSY = 2;
+
+    public static final int MAX_FRAME_BYTES = 1 << 30;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    /** Largest number of small requests answered in one batch. */
+    public static final int MAX_BATCH = 1024;
+
+    private final ServerSocket serverSocket;
+    private final ArrayBlockingQueue<SmallRequest> smallRequests;
+    private final ThreadPoolExecutor heavyPool;
+    private final Thread acceptor;
+    private final Thread batcher;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Integer, RegisteredArray> arrays = new ConcurrentHashMap<>();
+    private final AtomicInteger nextArrayId = new AtomicInteger(1);
+    private final long startNanos = System.nanoTime();
+    private volatile boolean closed;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRequests = new LongAdder();
+    private final LongAdder totalLatencyNs = new LongAdder();
+    private final LongAccumulator maxLatencyNs = new LongAccumulator(Math::max, 0);
+
+    private ComputeServer(ServerSocket serverSocket, int queueCapacity) {
+        this.serverSocket = serverSocket;
+        this.smallRequests = new ArrayBlockingQueue<>(queueCapacity);
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.heavyPool = new ThreadPoolExecutor(cores, cores, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        this.batcher = Thread.ofPlatform().daemon().name("compute-batcher").unstarted(this::runBatcher);
+        this.acceptor = Thread.ofPlatform().name("compute-acceptor").unstarted(this::acceptLoop);
+    }
+
+    /**
+     * Starts a server on the loopback interface.
+     * @param port The port, or 0 for any free port (see {@link #port()}).
+     */
+    public static ComputeServer start(int port) throws IOException {
+        return start(port, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static ComputeServer start(int port, int queueCapacity) throws IOException {
+        if (queueCapacity <= 0) throw new IllegalArgumentException("Queue capacity must be positive.");
+        ServerSocket socket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        ComputeServer server = new ComputeServer(socket, queueCapacity);
+        server.batcher.start();
+        server.acceptor.start();
+        return server;
+    }
+
+    /** Usage: Main --serve [PORT]; serves until the process is stopped. */
+    public static void main(String[] args) {
+        try {
+            Autotuner.loadOrCalibrate();
+        } catch (IOException e) {
+            System.err.println("Warning: could not save tuning profile: " + e.getMessage());
+        }
+        try {
+            ComputeServer server = start(args.length > 0 ? Integer.parseInt(args[0]) : 0);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.out.println("Compute server listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.port());
+            server.acceptor.join();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** Connections whose serving thread has not finished yet. */
+    int openConnections() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Connection already gone
+            }
+        }
+        batcher.interrupt();
+        // Queued heavy tasks will never run; cancel them so their connections stop waiting
+        for (Runnable queued : heavyPool.shutdownNow()) {
+            if (queued instanceof Future<?> future) future.cancel(false);
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                if (closed) {
+                    // close() may already have swept the connections
+                    connections.remove(socket);
+                    socket.close();
+                    continue;
+                }
+                Thread.ofVirtual().name("compute-connection").start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closed) System.err.println("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16))) {
+            while (true) {
+                int op = in.read();
+                if (op < 0) return;
+                int length = in.readInt();
+                if (length < 0 || length > MAX_FRAME_BYTES) {
+                    respond(out, STATUS_ERROR, ("Frame length " + length + " out of range.").getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                long start = System.nanoTime();
+                requests.increment();
+                byte status = STATUS_OK;
+                byte[] body;
+                try {
+                    body = handle((byte) op, ByteBuffer.wrap(payload));
+                } catch (BufferUnderflowException e) {
+                    errors.increment();
+                    status = STATUS_ERROR;
+                    body = "Truncated payload.".getBytes(StandardCharsets.UTF_8);
+                } catch (RejectedExecutionException e) {
+                    rejected.increment();
+                    status = STATUS_BUSY;
+                    body = new byte[0];
+                } catch (RuntimeException e) {
+                    errors.increment();
+                    status = STATUS_ERROR;
+                    body = String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+                }
+                respond(out, status, body);
+                long latency = System.nanoTime() - start;
+                totalLatencyNs.add(latency);
+                maxLatencyNs.accumulate(latency);
+            }
+        } catch (EOFException e) {
+            // Client closed mid-frame
+        } catch (IOException e) {
+            if (!closed) System.err.println("Connection error: " + e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private static void respond(DataOutputStream out, byte status, byte[] body) throws IOException {
+        out.writeByte(status);
+        out.writeInt(body.length);
+        out.write(body);
+        out.flush();
+    }
+
+    /** @throws RejectedExecutionException If the request could not be queued. */
+    private byte[] handle(byte op, ByteBuffer payload) {
+        return switch (op) {
+            case OP_SEARCH -> {
+                int arrayId = payload.getInt();
+                int key = payload.getInt();
+                yield intResponse(enqueue(new SmallRequest(OP_SEARCH, arrayId, key)));
+            }
+            case OP_COUNT_BINARY_DIGITS -> intResponse(enqueue(new SmallRequest(OP_COUNT_BINARY_DIGITS, 0, payload.getInt())));
+            case OP_REGISTER_ARRAY -> {
+                int id = nextArrayId.getAndIncrement();
+                arrays.put(id, new RegisteredArray(readIntArray(payload)));
+                yield intResponse(id);
+            }
+            case OP_UNREGISTER_ARRAY -> {
+                boolean removed = arrays.remove(payload.getInt()) != null;
+                yield new byte[] {(byte) (removed ? 1 : 0)};
+            }
+            case OP_FIND_MAX -> {
+                double[] values = readDoubleArray(payload);
+                double max = runHeavy(() -> Algorithms.findMaxElement(values));
+                yield ByteBuffer.allocate(Double.BYTES).putDouble(max).array();
+            }
+            case OP_HAS_UNIQUE -> {
+                int[] values = readIntArray(payload);
+                boolean unique = runHeavy(() -> Algorithms.hasUniqueElements(values));
+                yield new byte[] {(byte) (unique ? 1 : 0)};
+            }
+            case OP_FACTORIAL -> {
+                int n = payload.getInt();
+                BigInteger value = runHeavy(() -> Algorithms.bigFactorial(n));
+                yield value.toByteArray();
+            }
+            case OP_MULTIPLY -> {
+                double[][] A = readMatrix(payload);
+                double[][] B = readMatrix(payload);
+                yield matrixResponse(runHeavy(() -> Algorithms.multiplyMatrices(A, B)), null);
+            }
+            case OP_ELIMINATE -> {
+                double[][] M = readMatrix(payload);
+                EliminationResult result = runHeavy(() -> Algorithms.gaussianElimination(M));
+                yield matrixResponse(M, result.zeroPivots());
+            }
+            case OP_STATS -> stats().getBytes(StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("Unknown opcode " + op + ".");
+        };
+    }
+
+    private int enqueue(SmallRequest request) {
+        if (!smallRequests.offer(request)) throw new RejectedExecutionException();
+        // The batcher may have made its final drain just before the offer; if the request is still
+        // queued, nobody else will complete it
+        if (closed && smallRequests.remove(request)) request.result.completeExceptionally(shuttingDown());
+        return await(request.result);
+    }
+
+    private static IllegalStateException shuttingDown() {
+        return new IllegalStateException("Server is shutting down.");
+    }
+
+    private <T> T runHeavy(Callable<T> task) {
+        return await(heavyPool.submit(task));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** Counters since start, one "name=value" per line. */
+    public String stats() {
+        long count = requests.sum();
+        long batchCount = batches.sum();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return "requests=" + count + "\n"
+                + "errors=" + errors.sum() + "\n"
+                + "busy=" + rejected.sum() + "\n"
+                + "batches=" + batchCount + "\n"
+                + "batchedRequests=" + batchedRequests.sum() + "\n"
+                + "meanBatchSize=" + (batchCount == 0 ? 0 : (double) batchedRequests.sum() / batchCount) + "\n"
+                + "meanLatencyNs=" + (count == 0 ? 0 : totalLatencyNs.sum() / count) + "\n"
+                + "maxLatencyNs=" + maxLatencyNs.get() + "\n"
+                + "requestsPerSecond=" + (seconds > 0 ? count / seconds : 0) + "\n"
+                + "queueDepth=" + smallRequests.size() + "\n"
+                + "heavyQueueDepth=" + heavyPool.getQueue().size() + "\n"
+                + "registeredArrays=" + arrays.size() + "\n";
+    }
+
+    // --- Batching ---
+
+    private record SmallRequest(byte op, int arrayId, int argument, CompletableFuture<Integer> result) {
+        SmallRequest(byte op, int arrayId, int argument) {
+            this(op, arrayId, argument, new CompletableFuture<>());
+        }
+    }
+
+    /** A registered search array; the index is built the first time a batch is large enough to need one. */
+    private static final class RegisteredArray {
+        final int[] values;
+        private SearchIndex index; // only touched by the batching thread
+
+        RegisteredArray(int[] values) {
+            this.values = values;
+        }
+
+        int[] searchAll(int[] keys) {
+            if (index == null && keys.length <= BatchSearch.SINGLE_PASS_MAX_KEYS) return BatchSearch.searchAll(values, keys);
+            if (index == null) index = BatchSearch.buildIndex(values, BatchSearch.IndexType.HASH);
+            return index.indexOfAll(keys);
+        }
+    }
+
+    private void runBatcher() {
+        List<SmallRequest> batch = new ArrayList<>(MAX_BATCH);
+        while (!closed) {
+            try {
+                batch.add(smallRequests.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            smallRequests.drainTo(batch, MAX_BATCH - 1);
+            batches.increment();
+            batchedRequests.add(batch.size());
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                for (SmallRequest request : batch) { request.result.completeExceptionally(e); }
+            }
+            batch.clear();
+        }
+        SmallRequest left;
+        while ((left = smallRequests.poll()) != null) {
+            left.result.completeExceptionally(shuttingDown());
+        }
+    }
+
+    private void process(List<SmallRequest> batch) {
+        Map<Integer, List<SmallRequest>> searchesByArray = new HashMap<>();
+        for (SmallRequest request : batch) {
+            if (request.op == OP_COUNT_BINARY_DIGITS) {
+                try {
+                    request.result.complete(Algorithms.countBinaryDigits(request.argument));
+                } catch (RuntimeException e) {
+                    request.result.completeExceptionally(e);
+                }
+            } else {
+                searchesByArray.computeIfAbsent(request.arrayId, k -> new ArrayList<>()).add(request);
+            }
+        }
+        for (Map.Entry<Integer, List<SmallRequest>> group : searchesByArray.entrySet()) {
+            List<SmallRequest> searches = group.getValue();
+            RegisteredArray array = arrays.get(group.getKey());
+            if (array == null) {
+                IllegalArgumentException unknown = new IllegalArgumentException("Unknown array id " + group.getKey() + ".");
+                for (SmallRequest request : searches) { request.result.completeExceptionally(unknown); }
+                continue;
+            }
+            int[] keys = new int[searches.size()];
+            for (int i = 0; i < keys.length; i++) { keys[i] = searches.get(i).argument; }
+            int[] found = array.searchAll(keys);
+            for (int i = 0; i < keys.length; i++) { searches.get(i).result.complete(found[i]); }
+        }
+    }
+
+    // --- Payload encoding ---
+
+    private static byte[] intResponse(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    static int[] readIntArray(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining() / Integer.BYTES) throw new IllegalArgumentException("Bad array length " + length + ".");
+        int[] values = new int[length];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    static double[] readDoubleArray(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining() / Double.BYTES) throw new IllegalArgumentException("Bad array length " + length + ".");
+        double[] values = new double[length];
+        in.asDoubleBuffer().get(values);
+        in.position(in.position() + length * Double.BYTES);
+        return values;
+    }
+
+    static double[][] readMatrix(ByteBuffer in) {
+        int rows = in.getInt();
+        int cols = in.getInt();
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > in.remaining() / Double.BYTES) {
+            throw new IllegalArgumentException("Bad matrix dimensions " + rows + "x" + cols + ".");
+        }
+        double[][] matrix = new double[rows][cols];
+        for (double[] row : matrix) {
+            in.asDoubleBuffer().get(row);
+            in.position(in.position() + cols * Double.BYTES);
+        }
+        return matrix;
+    }
+
+    static int matrixBytes(double[][] matrix) {
+        long bytes = 2L * Integer.BYTES + (long) matrix.length * matrix[0].length * Double.BYTES;
+        if (bytes > MAX_FRAME_BYTES) throw new IllegalArgumentException("Matrix of " + bytes + " bytes exceeds the frame limit.");
+        return (int) bytes;
+    }
+
+    static void writeMatrix(ByteBuffer out, double[][] matrix) {
+        out.putInt(matrix.length).putInt(matrix[0].length);
+        for (double[] row : matrix) {
+            out.asDoubleBuffer().put(row);
+            out.position(out.position() + row.length * Double.BYTES);
+        }
+    }
+
+    /** The matrix, preceded by the zero-pivot array when pivots is not null. */
+    private static byte[] matrixResponse(double[][] matrix, int[] pivots) {
+        int pivotBytes = pivots == null ? 0 : Integer.BYTES * (1 + pivots.length);
+        ByteBuffer out = ByteBuffer.allocate(pivotBytes + matrixBytes(matrix));
+        if (pivots != null) {
+            out.putInt(pivots.length);
+            for (int pivot : pivots) { out.putInt(pivot); }
+        }
+        writeMatrix(out, matrix);
+        return out.array();
+    }
+}
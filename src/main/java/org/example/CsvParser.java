@@ -0,0 +1,173 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Byte-level tokenizer for numeric CSV. Fields are separated by commas, spaces or tabs and records
+ * by newlines; blank lines and lines starting with '#' are skipped. Numbers are parsed straight from
+ * the byte buffer without creating a String per field.
+ *
+ * Doubles with at most 15 significant digits, no exponent and at most 22 fraction digits take
+ * Clinger's fast path (an exact integer divided by an exact power of ten, so the single division is
+ * correctly rounded); anything else falls back to Double.parseDouble, so results always equal it.
+ */
+final class CsvParser {
+
+    static final int FIELD = 0;
+    static final int END_OF_RECORD = 1;
+    static final int END_OF_INPUT = 2;
+
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) { POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10; }
+    }
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[1 << 16];
+    private int position;
+    private int limit;
+    private byte[] field = new byte[64];
+    private int fieldLength;
+    private boolean inRecord;
+    private long line = 1;
+
+    CsvParser(InputStream in) {
+        this.in = in;
+    }
+
+    long line() {
+        return line;
+    }
+
+    /**
+     * Advances to the next field. END_OF_RECORD is returned once after the last field of every
+     * non-empty record (including a final record without a trailing newline).
+     */
+    int next() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                if (inRecord) {
+                    inRecord = false;
+                    return END_OF_RECORD;
+                }
+                return END_OF_INPUT;
+            }
+            byte b = buffer[position];
+            if (b == ',' || b == ' ' || b == '\t' || b == '\r') {
+                position++;
+            } else if (b == '\n') {
+                position++;
+                line++;
+                if (inRecord) {
+                    inRecord = false;
+                    return END_OF_RECORD;
+                }
+            } else if (b == '#' && !inRecord) {
+                skipLine();
+            } else {
+                readField();
+                inRecord = true;
+                return FIELD;
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        while (position < limit || fill()) {
+            if (buffer[position++] == '\n') {
+                line++;
+                return;
+            }
+        }
+    }
+
+    private void readField() throws IOException {
+        fieldLength = 0;
+        while (position < limit || fill()) {
+            byte b = buffer[position];
+            if (b == ',' || b == ' ' || b == '\t' || b == '\r' || b == '\n') return;
+            if (fieldLength == field.length) field = Arrays.copyOf(field, field.length * 2);
+            field[fieldLength++] = b;
+            position++;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    String fieldText() {
+        return new String(field, 0, fieldLength, StandardCharsets.US_ASCII);
+    }
+
+    int intField() {
+        int i = 0;
+        boolean negative = false;
+        if (fieldLength > 0 && (field[0] == '-' || field[0] == '+')) {
+            negative = field[0] == '-';
+            i = 1;
+        }
+        if (i == fieldLength) throw malformed();
+        long value = 0;
+        for (; i < fieldLength; i++) {
+            int digit = field[i] - '0';
+            if (digit < 0 || digit > 9) throw malformed();
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) throw malformed();
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) throw malformed();
+        return (int) value;
+    }
+
+    double doubleField() {
+        int i = 0;
+        boolean negative = false;
+        if (fieldLength > 0 && (field[0] == '-' || field[0] == '+')) {
+            negative = field[0] == '-';
+            i = 1;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int fractionDigits = 0;
+        int digits = 0;
+        boolean seenPoint = false;
+        for (; i < fieldLength; i++) {
+            byte b = field[i];
+            if (b == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            int digit = b - '0';
+            if (digit < 0 || digit > 9) return slowDouble(); // exponent, NaN, Infinity, or malformed
+            digits++;
+            if (mantissa != 0 || digit != 0) significant++;
+            mantissa = mantissa * 10 + digit;
+            if (seenPoint) fractionDigits++;
+            if (significant > 15 || fractionDigits >= POWERS_OF_TEN.length) return slowDouble();
+        }
+        if (digits == 0) return slowDouble();
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private double slowDouble() {
+        try {
+            return Double.parseDouble(fieldText());
+        } catch (NumberFormatException e) {
+            throw malformed();
+        }
+    }
+
+    private IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed number '" + fieldText() + "' on line " + line + ".");
+    }
+}
@@ -0,0 +1,33 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a Gaussian elimination run.
+ * @param status COMPLETE when every pivot was nonzero, ZERO_PIVOT otherwise.
+ * @param zeroPivots The pivot indices (row i, column i) that were zero and therefore skipped, in order.
+ */
+public record EliminationResult(Status status, int[] zeroPivots) {
+
+    public enum Status { COMPLETE, ZERO_PIVOT }
+
+    static final EliminationResult COMPLETE = new EliminationResult(Status.COMPLETE, new int[0]);
+
+    static EliminationResult of(int[] zeroPivots, int count) {
+        if (count == 0) return COMPLETE;
+        return new EliminationResult(Status.ZERO_PIVOT, Arrays.copyOf(zeroPivots, count));
+    }
+
+    public boolean isComplete() {
+        return status == Status.COMPLETE;
+    }
+
+    /**
+     * Throws if any pivot was zero, for callers that need a nonsingular system.
+     * @throws SingularMatrixException Naming the first zero pivot.
+     */
+    public EliminationResult requireComplete() {
+        if (!isComplete()) throw new SingularMatrixException(zeroPivots[0]);
+        return this;
+    }
+}
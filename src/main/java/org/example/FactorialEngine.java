@@ -0,0 +1,139 @@
+package org.example;
+
+import java.io.Serial;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exact factorials: a memo table for the long range and a BigInteger engine for large n.
+ *
+ * The BigInteger path separates the power of two from the odd part:
+ * n! = 2^(n - bitCount(n)) * prod_{i >= 0} oddProduct(1..(n >> i)).
+ * Consecutive odd products share factors, so each level multiplies in only the odd numbers in
+ * (n >> (i + 1), n >> i], and every such range is multiplied by binary splitting so operands stay
+ * balanced in size, which is where BigInteger's Karatsuba/Toom-Cook multiplication pays off.
+ * In parallel mode the range products run as fork/join tasks and the large final products use
+ * {@link BigInteger#parallelMultiply}.
+ */
+public final class FactorialEngine {
+
+    /** 20! is the largest factorial that fits in a long. */
+    public static final int MAX_LONG_FACTORIAL = 20;
+
+    private static final long[] LONG_FACTORIALS = new long[MAX_LONG_FACTORIAL + 1];
+
+    static {
+        LONG_FACTORIALS[0] = 1;
+        for (int i = 1; i <= MAX_LONG_FACTORIAL; i++) {
+            LONG_FACTORIALS[i] = LONG_FACTORIALS[i - 1] * i;
+        }
+    }
+
+    /** Odd ranges with at most this many terms are multiplied directly. */
+    private static final int LEAF_TERMS = 16;
+
+    /** Odd ranges with more terms than this are split into fork/join tasks in parallel mode. */
+    private static final int PARALLEL_TERMS = 1 << 11;
+
+    private FactorialEngine() {
+    }
+
+    /**
+     * @param n A non-negative integer no greater than 20.
+     * @return n! from the precomputed table.
+     * @throws ArithmeticException If n! does not fit in a long.
+     */
+    public static long factorialExact(int n) {
+        if (n < 0) throw new IllegalArgumentException("Non-negative input only.");
+        if (n > MAX_LONG_FACTORIAL) throw new ArithmeticException("long overflow: " + n + "! exceeds Long.MAX_VALUE (max n is " + MAX_LONG_FACTORIAL + ").");
+        return LONG_FACTORIALS[n];
+    }
+
+    public static BigInteger factorial(int n) {
+        return factorial(n, null);
+    }
+
+    /**
+     * @param n A non-negative integer.
+     * @param pool The pool for parallel evaluation, or null to compute on the calling thread.
+     * @return n! as a BigInteger.
+     */
+    public static BigInteger factorial(int n, ForkJoinPool pool) {
+        if (n < 0) throw new IllegalArgumentException("Non-negative input only.");
+        if (n <= MAX_LONG_FACTORIAL) return BigInteger.valueOf(LONG_FACTORIALS[n]);
+
+        int levels = 32 - Integer.numberOfLeadingZeros(n);
+        BigInteger[] ranges = new BigInteger[levels];
+        if (pool == null) {
+            for (int i = 0; i < levels; i++) { ranges[i] = oddProduct(n >> (i + 1), n >> i); }
+        } else {
+            OddProduct[] tasks = new OddProduct[levels];
+            for (int i = 0; i < levels; i++) {
+                tasks[i] = new OddProduct(n >> (i + 1), n >> i);
+                pool.execute(tasks[i]);
+            }
+            for (int i = 0; i < levels; i++) { ranges[i] = tasks[i].join(); }
+        }
+
+        // Walk from the smallest range up: p = oddProduct(1..n >> i), result *= p
+        BigInteger p = BigInteger.ONE;
+        BigInteger result = BigInteger.ONE;
+        for (int i = levels - 1; i >= 0; i--) {
+            p = multiply(p, ranges[i], pool != null);
+            result = multiply(result, p, pool != null);
+        }
+        return result.shiftLeft(n - Integer.bitCount(n));
+    }
+
+    private static BigInteger multiply(BigInteger a, BigInteger b, boolean parallel) {
+        return parallel ? a.parallelMultiply(b) : a.multiply(b);
+    }
+
+    /** Product of the odd numbers k with lo < k <= hi, by binary splitting. */
+    static BigInteger oddProduct(int lo, int hi) {
+        int first = (lo + 1) | 1;
+        if (first > hi) return BigInteger.ONE;
+        int terms = (hi - first) / 2 + 1;
+        if (terms <= LEAF_TERMS) {
+            BigInteger product = BigInteger.ONE;
+            long pair = 1;
+            int inPair = 0;
+            for (long k = first; k <= hi; k += 2) {
+                pair *= k; // Two factors below 2^31 always fit in a long
+                if (++inPair == 2) {
+                    product = product.multiply(BigInteger.valueOf(pair));
+                    pair = 1;
+                    inPair = 0;
+                }
+            }
+            return inPair == 0 ? product : product.multiply(BigInteger.valueOf(pair));
+        }
+        int mid = first - 1 + 2 * (terms / 2);
+        return oddProduct(lo, mid).multiply(oddProduct(mid, hi));
+    }
+
+    private static final class OddProduct extends RecursiveTask<BigInteger> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int lo, hi;
+
+        OddProduct(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            int first = (lo + 1) | 1;
+            int terms = first > hi ? 0 : (hi - first) / 2 + 1;
+            if (terms <= PARALLEL_TERMS) return oddProduct(lo, hi);
+            int mid = first - 1 + 2 * (terms / 2);
+            OddProduct left = new OddProduct(lo, mid);
+            left.fork();
+            BigInteger right = new OddProduct(mid, hi).compute();
+            return left.join().parallelMultiply(right);
+        }
+    }
+}
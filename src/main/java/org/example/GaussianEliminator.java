@@ -0,0 +1,136 @@
+package org.example;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Row-echelon reduction with partial pivoting, in serial or fork/join form.
+ *
+ * For each pivot the rows below it are independent of one another, so the parallel mode splits
+ * that trailing row update across a pool. Steps whose update is smaller than the parallel
+ * threshold run on the calling thread. Each row sees exactly the same operations in both modes,
+ * so the results are bit-identical. Zero pivots are reported through {@link EliminationResult}
+ * instead of console output.
+ */
+public final class GaussianEliminator {
+
+    /** Pivot steps updating fewer elements than this stay serial. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 15;
+
+    /** Leaf tasks update at most this many elements. */
+    private static final int LEAF_WORK = 1 << 13;
+
+    private static final GaussianEliminator SERIAL = new GaussianEliminator(null, DEFAULT_PARALLEL_THRESHOLD);
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    /**
+     * @param pool The pool for row updates, or null to always run serially.
+     * @param parallelThreshold Minimum elements updated by a pivot step before it is forked.
+     */
+    public GaussianEliminator(ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold <= 0) throw new IllegalArgumentException("Parallel threshold must be positive.");
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public static GaussianEliminator serial() {
+        return SERIAL;
+    }
+
+    /**
+     * Reduces A (n x m) to row-echelon form in place. Pivots run over the first min(n, m)
+     * columns; a column whose best pivot is zero is skipped and recorded in the result.
+     * @param A The matrix to reduce.
+     * @return The elimination status.
+     */
+    public EliminationResult eliminate(double[][] A) {
+        if (A == null || A.length == 0 || A[0] == null || A[0].length == 0) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        int n = A.length;
+        int m = A[0].length; // number of columns (n equations, m variables/augmented columns)
+        int pivots = Math.min(n, m);
+        Workspace workspace = Workspace.acquire();
+        try {
+            return eliminate(A, n, m, pivots, workspace.indices(pivots));
+        } finally {
+            workspace.release();
+        }
+    }
+
+    private EliminationResult eliminate(double[][] A, int n, int m, int pivots, int[] zeroPivots) {
+        int zeroCount = 0;
+
+        for (int i = 0; i < pivots; i++) { // For each pivot row
+            // Find pivot (largest absolute value in the current column below or at current row)
+            int maxRow = i;
+            for (int k = i + 1; k < n; k++) {
+                if (Math.abs(A[k][i]) > Math.abs(A[maxRow][i])) {
+                    maxRow = k;
+                }
+            }
+
+            // Swap max row with current row
+            double[] temp = A[i];
+            A[i] = A[maxRow];
+            A[maxRow] = temp;
+
+            // A zero pivot after swapping means the whole column below is zero
+            if (A[i][i] == 0.0) {
+                zeroPivots[zeroCount++] = i;
+                continue;
+            }
+
+            // Eliminate column i below current row
+            long work = (long) (n - i - 1) * (m - i);
+            if (pool == null || work < parallelThreshold) {
+                updateRows(A, i, i + 1, n);
+            } else {
+                pool.invoke(new RowUpdate(A, i, i + 1, n));
+            }
+        }
+        return EliminationResult.of(zeroPivots, zeroCount);
+    }
+
+    private static void updateRows(double[][] A, int i, int from, int to) {
+        double[] pivotRow = A[i];
+        double pivot = pivotRow[i];
+        int m = pivotRow.length;
+        for (int j = from; j < to; j++) {
+            double[] row = A[j];
+            double factor = row[i] / pivot;
+            for (int k = i; k < m; k++) {
+                row[k] -= pivotRow[k] * factor;
+            }
+        }
+    }
+
+    private static final class RowUpdate extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] A;
+        private final int pivot, from, to;
+
+        RowUpdate(double[][] A, int pivot, int from, int to) {
+            this.A = A;
+            this.pivot = pivot;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = to - from;
+            if (rows <= 1 || (long) rows * (A[pivot].length - pivot) <= LEAF_WORK) {
+                updateRows(A, pivot, from, to);
+                return;
+            }
+            int mid = from + rows / 2;
+            invokeAll(new RowUpdate(A, pivot, from, mid), new RowUpdate(A, pivot, mid, to));
+        }
+    }
+}
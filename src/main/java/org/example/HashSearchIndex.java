@@ -0,0 +1,29 @@
+package org.example;
+
+/**
+ * O(1) expected lookups through a primitive hash map from value to first index.
+ * Costs about 16 bytes per distinct value.
+ */
+public final class HashSearchIndex implements SearchIndex {
+
+    private final IntIntHashMap firstIndex;
+
+    public HashSearchIndex(int[] A) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        firstIndex = new IntIntHashMap(A.length);
+        for (int i = 0; i < A.length; i++) {
+            firstIndex.putIfAbsent(A[i], i); // Later duplicates keep the first index
+        }
+    }
+
+    @Override
+    public int indexOf(int key) {
+        int i = firstIndex.get(key);
+        return i == IntIntHashMap.NO_VALUE ? -1 : i;
+    }
+
+    @Override
+    public int distinctValues() {
+        return firstIndex.size();
+    }
+}
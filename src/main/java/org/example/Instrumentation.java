@@ -0,0 +1,131 @@
+package org.example;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Wraps algorithm calls to record allocation, CPU time, wall time and GC activity.
+ *
+ * Allocation and CPU time come from com.sun.management.ThreadMXBean and cover only the calling
+ * thread, so work done in fork/join pools (the parallel multiply and elimination paths) is not
+ * included. GC counts and times are JVM-wide. Every call also emits an {@link AlgorithmEvent}
+ * for JDK Flight Recorder and is added to {@link #registry()}.
+ *
+ * <pre>
+ * double[][] c = Instrumentation.call("multiplyMatrices", n, () -> Algorithms.multiplyMatrices(a, b));
+ * MetricsRegistry.Totals t = Instrumentation.registry().get("multiplyMatrices");
+ * </pre>
+ */
+public final class Instrumentation {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final boolean ALLOCATION_SUPPORTED = THREADS != null && THREADS.isThreadAllocatedMemorySupported()
+            && THREADS.isThreadAllocatedMemoryEnabled();
+    private static final boolean CPU_SUPPORTED = THREADS != null && THREADS.isCurrentThreadCpuTimeSupported()
+            && THREADS.isThreadCpuTimeEnabled();
+    // An array so the per-call loops do not allocate an iterator
+    private static final GarbageCollectorMXBean[] COLLECTORS =
+            ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    private Instrumentation() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+    }
+
+    public static boolean isAllocationSupported() {
+        return ALLOCATION_SUPPORTED;
+    }
+
+    public static boolean isCpuTimeSupported() {
+        return CPU_SUPPORTED;
+    }
+
+    /** The registry that {@link #call} records into. */
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Runs the operation and records its profile in the registry and as a JFR event.
+     * @return The operation's result.
+     */
+    public static <T> T call(String algorithm, long inputSize, Supplier<T> operation) {
+        AlgorithmEvent event = new AlgorithmEvent();
+        Probe probe = new Probe();
+        event.begin();
+        probe.begin();
+        T result = operation.get();
+        probe.end();
+        event.end();
+        commit(event, probe, algorithm, inputSize);
+        REGISTRY.record(probe.toProfile(algorithm, inputSize));
+        return result;
+    }
+
+    /** Runs the operation and returns its profile instead of its result; nothing is recorded in the registry. */
+    public static CallProfile profile(String algorithm, long inputSize, Supplier<?> operation) {
+        Probe probe = new Probe();
+        probe.begin();
+        operation.get();
+        probe.end();
+        return probe.toProfile(algorithm, inputSize);
+    }
+
+    static void commit(AlgorithmEvent event, Probe probe, String algorithm, long inputSize) {
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.inputSize = inputSize;
+            event.allocatedBytes = probe.allocatedBytes;
+            event.cpuTimeNs = probe.cpuNs;
+            event.gcCount = probe.gcCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reusable before/after reader of the counters. begin() and end() do not allocate, so a probe
+     * created before the call does not show up in its own allocation figure. The MXBean reads happen
+     * outside the wall-clock bracket so they do not inflate wallNs.
+     */
+    static final class Probe {
+        long wallNs, cpuNs, allocatedBytes, gcCount, gcTimeMs;
+        private long startWall;
+
+        void begin() {
+            gcCount = -totalGcCount();
+            gcTimeMs = -totalGcTimeMs();
+            allocatedBytes = ALLOCATION_SUPPORTED ? -THREADS.getCurrentThreadAllocatedBytes() : 0;
+            cpuNs = CPU_SUPPORTED ? -THREADS.getCurrentThreadCpuTime() : 0;
+            startWall = System.nanoTime();
+        }
+
+        void end() {
+            wallNs = System.nanoTime() - startWall;
+            cpuNs = CPU_SUPPORTED ? cpuNs + THREADS.getCurrentThreadCpuTime() : -1;
+            allocatedBytes = ALLOCATION_SUPPORTED ? allocatedBytes + THREADS.getCurrentThreadAllocatedBytes() : -1;
+            gcTimeMs += totalGcTimeMs();
+            gcCount += totalGcCount();
+        }
+
+        CallProfile toProfile(String algorithm, long inputSize) {
+            return new CallProfile(algorithm, inputSize, wallNs, cpuNs, allocatedBytes, gcCount, gcTimeMs);
+        }
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { total += Math.max(0, gc.getCollectionCount()); }
+        return total;
+    }
+
+    private static long totalGcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { total += Math.max(0, gc.getCollectionTime()); }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from int keys to non-negative int values (typically array indices),
+ * with linear probing and no boxing. A value slot of -1 marks an empty bucket, so any int,
+ * including 0 and Integer.MIN_VALUE, can be used as a key.
+ */
+final class IntIntHashMap {
+
+    static final int NO_VALUE = -1;
+    /**
+     * Largest size hint honoured up front (a 16 MB table). Bigger maps grow by rehashing as entries
+     * arrive, so a caller that stops early never pays for the full table.
+     */
+    static final int MAX_PRESIZE = 1 << 20;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize Number of entries the map should hold without rehashing, up to
+     *        {@link #MAX_PRESIZE}; any size is accepted.
+     */
+    IntIntHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.min(Math.max(expectedSize, 1), MAX_PRESIZE));
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+    }
+
+    /** Load factor 0.5: the smallest power of two at least twice the expected size. */
+    private static int tableSizeFor(int expectedSize) {
+        int target = Math.max(4, expectedSize * 2);
+        return Integer.highestOneBit(target - 1) << 1;
+    }
+
+    /** Murmur3 finalizer, so clustered keys still spread across the table. */
+    private static int hash(int key) {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Inserts key -> value unless the key is already present.
+     * @return The value already mapped to key, or NO_VALUE if the key was inserted.
+     */
+    int putIfAbsent(int key, int value) {
+        if (value < 0) throw new IllegalArgumentException("Values must be non-negative.");
+        int slot = hash(key) & mask;
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) { return values[slot]; }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) { rehash(keys.length * 2); }
+        return NO_VALUE;
+    }
+
+    /** Returns the value mapped to key, or NO_VALUE. */
+    int get(int key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) { return values[slot]; }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** @throws IllegalStateException Past 2^29 entries, where the table would need 2^31 slots. */
+    private void rehash(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) throw new IllegalStateException("Int hash map is full.");
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == NO_VALUE) continue;
+            int slot = hash(oldKeys[i]) & mask;
+            while (values[slot] != NO_VALUE) { slot = (slot + 1) & mask; }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.example;
+
+/**
+ * Blocked right-looking LU factorization with partial pivoting: PA = LU.
+ *
+ * L (unit lower triangular) and U are stored together in one flat row-major array. Columns are
+ * factored in panels of blockSize using the same max-row pivot search as
+ * {@link Algorithms#gaussianElimination(double[][])}; the rest of each panel's rows is then solved
+ * against L11 and the trailing matrix is updated with one rank-blockSize product, which walks
+ * rows contiguously. Factoring costs O(N^3) once; each later solve costs O(N^2).
+ *
+ * {@link MixedPrecisionSolver} carries a float copy of this factor and solve (its FloatLU), since
+ * Java generics cannot abstract over primitive element types. Changes to the loop structure or
+ * pivoting here should be mirrored there.
+ */
+public final class LUDecomposition {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int n;
+    private final double[] lu;
+    private final int[] perm;
+    private final int firstZeroPivot;
+
+    private LUDecomposition(int n, double[] lu, int[] perm, int firstZeroPivot) {
+        this.n = n;
+        this.lu = lu;
+        this.perm = perm;
+        this.firstZeroPivot = firstZeroPivot;
+    }
+
+    public static LUDecomposition factor(double[][] A) {
+        return factor(A, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Factors a square matrix. A is not modified.
+     * @param A The square coefficient matrix.
+     * @param blockSize The panel width; must be positive.
+     * @return The factorization, reusable for any number of right-hand sides.
+     */
+    public static LUDecomposition factor(double[][] A, int blockSize) {
+        if (blockSize <= 0) throw new IllegalArgumentException("Block size must be positive.");
+        Matrix m = Matrix.of(A);
+        if (m.rows() != m.cols()) throw new IllegalArgumentException("LU factorization requires a square matrix.");
+        int n = m.rows();
+        double[] a = m.data();
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) { perm[i] = i; }
+        int firstZeroPivot = -1;
+
+        for (int j0 = 0; j0 < n; j0 += blockSize) {
+            int jEnd = Math.min(j0 + blockSize, n);
+
+            // Panel: unblocked elimination of columns j0..jEnd-1, with full-row swaps
+            for (int j = j0; j < jEnd; j++) {
+                int maxRow = j;
+                for (int k = j + 1; k < n; k++) {
+                    if (Math.abs(a[k * n + j]) > Math.abs(a[maxRow * n + j])) { maxRow = k; }
+                }
+                if (maxRow != j) {
+                    swapRows(a, n, j, maxRow);
+                    int t = perm[j]; perm[j] = perm[maxRow]; perm[maxRow] = t;
+                }
+                double pivot = a[j * n + j];
+                if (pivot == 0.0) {
+                    if (firstZeroPivot < 0) firstZeroPivot = j;
+                    continue; // Nothing to eliminate in this column
+                }
+                for (int i = j + 1; i < n; i++) {
+                    int row = i * n;
+                    double l = a[row + j] / pivot;
+                    a[row + j] = l;
+                    for (int k = j + 1; k < jEnd; k++) { a[row + k] -= l * a[j * n + k]; }
+                }
+            }
+            if (jEnd == n) break;
+
+            // U12 = L11^-1 A12
+            for (int j = j0; j < jEnd; j++) {
+                for (int i = j + 1; i < jEnd; i++) {
+                    double l = a[i * n + j];
+                    if (l == 0.0) continue;
+                    int ri = i * n, rj = j * n;
+                    for (int k = jEnd; k < n; k++) { a[ri + k] -= l * a[rj + k]; }
+                }
+            }
+
+            // A22 -= L21 U12
+            for (int i = jEnd; i < n; i++) {
+                int ri = i * n;
+                for (int k = j0; k < jEnd; k++) {
+                    double l = a[ri + k];
+                    if (l == 0.0) continue;
+                    int rk = k * n;
+                    for (int c = jEnd; c < n; c++) { a[ri + c] -= l * a[rk + c]; }
+                }
+            }
+        }
+        return new LUDecomposition(n, a, perm, firstZeroPivot);
+    }
+
+    private static void swapRows(double[] a, int n, int r1, int r2) {
+        int o1 = r1 * n, o2 = r2 * n;
+        for (int k = 0; k < n; k++) {
+            double t = a[o1 + k];
+            a[o1 + k] = a[o2 + k];
+            a[o2 + k] = t;
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** True when a zero pivot was met; such a factorization cannot be used to solve. */
+    public boolean isSingular() {
+        return firstZeroPivot >= 0;
+    }
+
+    /** Returns U[i][i]; zero on the diagonal means the matrix is singular. */
+    public double pivot(int i) {
+        return lu[i * n + i];
+    }
+
+    /**
+     * Solves Ax = b by forward and back substitution in O(N^2).
+     * @param b The right-hand side, of length N; not modified.
+     * @return The solution x.
+     */
+    public double[] solve(double[] b) {
+        if (b == null || b.length != n) throw new IllegalArgumentException("Right-hand side must have length " + n + ".");
+        checkNotSingular();
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) { x[i] = b[perm[i]]; }
+        for (int i = 1; i < n; i++) {
+            int row = i * n;
+            double sum = x[i];
+            for (int k = 0; k < i; k++) { sum -= lu[row + k] * x[k]; }
+            x[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int row = i * n;
+            double sum = x[i];
+            for (int k = i + 1; k < n; k++) { sum -= lu[row + k] * x[k]; }
+            x[i] = sum / lu[row + i];
+        }
+        return x;
+    }
+
+    /**
+     * Solves AX = B for many right-hand sides at once. B is N x K with one right-hand side per
+     * column; the substitutions sweep whole rows of X, so every column advances in the same pass.
+     * @param rhs The N x K right-hand sides; not modified.
+     * @return The N x K solutions.
+     */
+    public double[][] solve(double[][] rhs) {
+        if (rhs == null || rhs.length != n) throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        checkNotSingular();
+        int k = rhs[0].length;
+        double[] x = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            if (rhs[perm[i]].length != k) throw new IllegalArgumentException("Right-hand side rows must all have the same length.");
+            System.arraycopy(rhs[perm[i]], 0, x, i * k, k);
+        }
+        for (int i = 1; i < n; i++) {
+            int xi = i * k, row = i * n;
+            for (int j = 0; j < i; j++) {
+                double l = lu[row + j];
+                if (l == 0.0) continue;
+                int xj = j * k;
+                for (int c = 0; c < k; c++) { x[xi + c] -= l * x[xj + c]; }
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int xi = i * k, row = i * n;
+            for (int j = i + 1; j < n; j++) {
+                double u = lu[row + j];
+                if (u == 0.0) continue;
+                int xj = j * k;
+                for (int c = 0; c < k; c++) { x[xi + c] -= u * x[xj + c]; }
+            }
+            double d = lu[row + i];
+            for (int c = 0; c < k; c++) { x[xi + c] /= d; }
+        }
+        return Matrix.wrap(n, k, x).toArray();
+    }
+
+    private void checkNotSingular() {
+        if (firstZeroPivot >= 0) throw new SingularMatrixException(firstZeroPivot);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of non-negative long values (nanoseconds), in the style of
+ * HdrHistogram. Values below 128 are counted exactly; above that, each power-of-two range is split
+ * into 64 equal sub-buckets, so any recorded value is reported within 1/64 (about 1.6%) of its
+ * true value. Recording is O(1) and allocation-free, and the whole histogram is about 30 KB.
+ *
+ * Mean and standard deviation are computed from the exact values, not from the buckets.
+ * Not thread-safe; give each thread its own histogram and {@link #merge} them afterwards.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;           // 64
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS; // last bucket holds Long.MAX_VALUE
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private double mean;
+    private double m2; // Welford running sum of squared deviations
+
+    public void record(long value) {
+        if (value < 0) throw new IllegalArgumentException("Histogram values must be non-negative.");
+        counts[indexFor(value)]++;
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /** Adds every value recorded in other to this histogram. */
+    public void merge(LatencyHistogram other) {
+        if (other.count == 0) return;
+        for (int i = 0; i < BUCKETS; i++) { counts[i] += other.counts[i]; }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    static int indexFor(long value) {
+        if (value < 2 * SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift); // in [64, 128)
+        return shift * SUB_BUCKETS + top;
+    }
+
+    /** Largest value that maps to the given bucket. */
+    static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public long count() { return count; }
+
+    public long min() { return count == 0 ? 0 : min; }
+
+    public long max() { return count == 0 ? 0 : max; }
+
+    public double mean() { return mean; }
+
+    /** Sample standard deviation; zero with fewer than two values. */
+    public double stdDev() {
+        return count < 2 ? 0.0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * @param percentile A percentile in [0, 100], e.g. 99.9.
+     * @return The value at that percentile (upper edge of its bucket, capped at the recorded max).
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be in [0, 100].");
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestValueIn(i), max);
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+        mean = 0;
+        m2 = 0;
+    }
+}
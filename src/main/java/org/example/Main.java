@@ -6,6 +6,17 @@ import java.util.Scanner; // Import the Scanner class
 
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            // Non-interactive mode: Main --batch [JOBFILE | -]
+            BatchRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            // Long-lived loopback service: Main --serve [PORT]
+            ComputeServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in); // Create a Scanner object
         System.out.println("Welcome to the Algorithm Explorer!");
 
@@ -44,9 +55,12 @@ public class Main {
         System.out.print("Enter a non-negative integer (for factorial): ");
         try {
             int nFactorial = scanner.nextInt();
-            long result = Algorithms.factorial(nFactorial);
-            System.out.println("Factorial of " + nFactorial + ": " + result);
-            System.out.println("Time Complexity: O(n)");
+            if (nFactorial > FactorialEngine.MAX_LONG_FACTORIAL) {
+                System.out.println("Factorial of " + nFactorial + ": " + Algorithms.bigFactorial(nFactorial));
+            } else {
+                System.out.println("Factorial of " + nFactorial + ": " + Algorithms.factorial(nFactorial));
+            }
+            System.out.println("Time Complexity: O(1) up to 20 (table), binary-split product tree beyond");
         } catch (IllegalArgumentException e) {
             System.out.println("Error: " + e.getMessage());
         } catch (InputMismatchException e) {
@@ -171,7 +185,7 @@ public class Main {
 
                 boolean isUnique = Algorithms.hasUniqueElements(uniqueCheckArr);
                 System.out.println("Has unique elements: " + isUnique);
-                System.out.println("Time Complexity: O(N^2)");
+                System.out.println("Time Complexity: O(N) (expected)");
             }
         } catch (IllegalArgumentException e) {
             System.out.println("Error: " + e.getMessage());
@@ -205,7 +219,14 @@ public class Main {
                     System.out.println(Arrays.toString(row));
                 }
 
-                Algorithms.gaussianElimination(gaussianMatrix);
+                if (rows > cols) {
+                    System.out.println("Warning: More rows than columns, may not be solvable with basic Gaussian elimination.");
+                }
+
+                EliminationResult elimination = Algorithms.gaussianElimination(gaussianMatrix);
+                for (int pivot : elimination.zeroPivots()) {
+                    System.out.println("Warning: Zero pivot encountered at row " + pivot + ", column " + pivot + ". Matrix may be singular or solution may not be unique/exist.");
+                }
 
                 System.out.println("Matrix after Gaussian Elimination:");
                 for (double[] row : gaussianMatrix) {
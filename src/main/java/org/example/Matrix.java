@@ -0,0 +1,87 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Dense matrix stored in a single contiguous row-major array.
+ * Element (i, j) lives at index i * cols + j, so walking along a row is a
+ * sequential memory access, unlike the jagged rows of a double[][].
+ */
+public final class Matrix {
+
+    private final int rows;
+    private final int cols;
+    private final double[] data;
+
+    /**
+     * Creates a zero-filled matrix.
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     */
+    public Matrix(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("Matrix too large for flat storage.");
+        this.rows = rows;
+        this.cols = cols;
+        this.data = new double[rows * cols];
+    }
+
+    private Matrix(int rows, int cols, double[] data) {
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    /**
+     * Copies a rectangular double[][] into flat row-major storage.
+     * @param A The source matrix; every row must have the same length.
+     * @return A new Matrix holding a copy of A.
+     */
+    public static Matrix of(double[][] A) {
+        if (A == null || A.length == 0 || A[0] == null || A[0].length == 0) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        Matrix m = new Matrix(A.length, A[0].length);
+        for (int i = 0; i < m.rows; i++) {
+            if (A[i] == null || A[i].length != m.cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+            System.arraycopy(A[i], 0, m.data, i * m.cols, m.cols);
+        }
+        return m;
+    }
+
+    /**
+     * Wraps an existing row-major array without copying it.
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     * @param data The backing array, of length rows * cols.
+     * @return A Matrix view over data.
+     */
+    public static Matrix wrap(int rows, int cols, double[] data) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if (data == null || data.length != (long) rows * cols) throw new IllegalArgumentException("Backing array length must equal rows * cols.");
+        return new Matrix(rows, cols, data);
+    }
+
+    /**
+     * Copies this matrix back into a freshly allocated double[][].
+     * @return The jagged-array form of this matrix.
+     */
+    public double[][] toArray() {
+        double[][] A = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            A[i] = Arrays.copyOfRange(data, i * cols, (i + 1) * cols);
+        }
+        return A;
+    }
+
+    public int rows() { return rows; }
+
+    public int cols() { return cols; }
+
+    public double get(int i, int j) { return data[i * cols + j]; }
+
+    public void set(int i, int j, double value) { data[i * cols + j] = value; }
+
+    /** Returns the backing row-major array (not a copy). */
+    public double[] data() { return data; }
+}
@@ -0,0 +1,196 @@
+package org.example;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Opt-in, content-addressed cache of matrix products and eliminations.
+ *
+ * Operands are keyed by their dimensions and two XXH64 hashes (different seeds) of their raw
+ * element bits, so equal contents hit regardless of which arrays hold them and an accidental
+ * collision needs both 64-bit hashes to match. Hashing is O(N^2) against the O(N^3) it saves.
+ *
+ * Entries are evicted least recently used first once their estimated size passes the byte budget.
+ * Results are stored and returned as copies, so callers can neither corrupt the cache nor see one
+ * another's modifications. Safe for concurrent use; the lock is held only for map operations, never
+ * while computing, so two threads missing on the same key may both compute it.
+ */
+public final class MatrixCache {
+
+    private static final long SEED_1 = 0;
+    private static final long SEED_2 = 0x5DEECE66DL;
+    /** Rough per-entry cost of the key, map node and result headers. */
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private enum Operation { MULTIPLY, ELIMINATE }
+
+    private record Digest(int rows, int cols, long hash1, long hash2) {}
+
+    private record Key(Operation operation, Digest first, Digest second) {}
+
+    private record Entry(Matrix matrix, int[] zeroPivots, long bytes) {}
+
+    private final long maxBytes;
+    private final boolean identityFastPath;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Guarded by lock; weak keys so cached digests never keep a caller's array alive
+    private final Map<double[][], Digest> digests = new WeakHashMap<>();
+    private long bytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MatrixCache(long maxBytes) {
+        this(maxBytes, false);
+    }
+
+    /**
+     * @param maxBytes The budget for cached results, estimated from their element counts.
+     * @param identityFastPath Remember the digest of each operand array by identity and skip rehashing
+     *        it on later calls. Only valid while callers do not modify operands between calls: a
+     *        changed array would still be looked up by its old contents.
+     */
+    public MatrixCache(long maxBytes, boolean identityFastPath) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("Cache size must be positive.");
+        this.maxBytes = maxBytes;
+        this.identityFastPath = identityFastPath;
+    }
+
+    /**
+     * {@link Algorithms#multiplyMatrices(double[][], double[][])}, or a copy of the cached product.
+     */
+    public double[][] multiply(double[][] A, double[][] B) {
+        if (A == null || B == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        Key key = new Key(Operation.MULTIPLY, digest(A), digest(B));
+        Entry entry = lookup(key);
+        if (entry != null) return entry.matrix().toArray();
+        double[][] C = Algorithms.multiplyMatrices(A, B);
+        Matrix stored = Matrix.of(C);
+        store(key, new Entry(stored, null, sizeOf(stored.rows(), stored.cols())));
+        return C;
+    }
+
+    /**
+     * {@link Algorithms#gaussianElimination(double[][])}: reduces A in place, copying the reduced rows
+     * from the cache on a hit.
+     */
+    public EliminationResult gaussianElimination(double[][] A) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Matrix is empty or null.");
+        Key key = new Key(Operation.ELIMINATE, digest(A), null);
+        Entry entry = lookup(key);
+        if (entry != null) {
+            Matrix m = entry.matrix();
+            for (int i = 0; i < A.length; i++) { System.arraycopy(m.data(), i * m.cols(), A[i], 0, m.cols()); }
+            forget(A);
+            return EliminationResult.of(entry.zeroPivots(), entry.zeroPivots().length);
+        }
+        EliminationResult result = Algorithms.gaussianElimination(A);
+        forget(A); // A now holds different contents
+        Matrix stored = Matrix.of(A);
+        store(key, new Entry(stored, result.zeroPivots().clone(), sizeOf(stored.rows(), stored.cols())));
+        return result;
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            digests.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Digest digest(double[][] A) {
+        if (identityFastPath) {
+            lock.lock();
+            try {
+                Digest d = digests.get(A);
+                if (d != null) return d;
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (A.length == 0 || A[0] == null) throw new IllegalArgumentException("Matrix is empty or null.");
+        int cols = A[0].length;
+        for (double[] row : A) {
+            if (row == null || row.length != cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+        }
+        Digest d = new Digest(A.length, cols, XxHash64.hash(A, SEED_1), XxHash64.hash(A, SEED_2));
+        if (identityFastPath) {
+            lock.lock();
+            try {
+                digests.put(A, d);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return d;
+    }
+
+    private void forget(double[][] A) {
+        if (!identityFastPath) return;
+        lock.lock();
+        try {
+            digests.remove(A);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry lookup(Key key) {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    private void store(Key key, Entry entry) {
+        if (entry.bytes() > maxBytes) return; // Would evict everything and still not fit
+        lock.lock();
+        try {
+            Entry previous = entries.put(key, entry);
+            bytes += entry.bytes() - (previous == null ? 0 : previous.bytes());
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes) {
+                bytes -= eldest.next().bytes();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long sizeOf(int rows, int cols) {
+        return ENTRY_OVERHEAD_BYTES + (long) rows * cols * Double.BYTES;
+    }
+}
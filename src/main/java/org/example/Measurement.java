@@ -0,0 +1,21 @@
+package org.example;
+
+/**
+ * Summary of repeated timings of one algorithm at one input size. All times are in nanoseconds
+ * except gcTimeMs. The resource columns are per-call means over the timed repetitions (-1 when the
+ * JVM cannot measure them); GC count and time are totals over all repetitions.
+ */
+public record Measurement(String algorithm, long inputSize, long samples,
+                          long minNs, double meanNs, double stdDevNs,
+                          long p50Ns, long p90Ns, long p99Ns, long p999Ns, long maxNs,
+                          double meanCpuNs, double meanAllocatedBytes, long gcCount, long gcTimeMs) {
+
+    static Measurement of(String algorithm, long inputSize, LatencyHistogram histogram,
+                          double meanCpuNs, double meanAllocatedBytes, long gcCount, long gcTimeMs) {
+        return new Measurement(algorithm, inputSize, histogram.count(),
+                histogram.min(), histogram.mean(), histogram.stdDev(),
+                histogram.percentile(50), histogram.percentile(90), histogram.percentile(99),
+                histogram.percentile(99.9), histogram.max(),
+                meanCpuNs, meanAllocatedBytes, gcCount, gcTimeMs);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Times an operation repeatedly and summarizes the samples in a {@link LatencyHistogram}.
+ *
+ * Each measurement first runs untimed warmup iterations so the JIT has compiled the code path, then
+ * times every repetition separately. Inputs are produced by a factory outside the timed region, so
+ * operations that consume or modify their input (like gaussianElimination) get a fresh copy each
+ * time. Results are stored in a volatile field so the JIT cannot drop the work as dead code.
+ *
+ * Every timed repetition is also profiled through {@link Instrumentation}: CPU time and allocated
+ * bytes of the calling thread and JVM-wide GC activity, reported alongside the latency summary.
+ * Each repetition emits an {@link AlgorithmEvent} when a Flight Recorder recording is running.
+ */
+public final class MeasurementEngine {
+
+    public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    public static final int DEFAULT_REPETITIONS = 30;
+
+    private final int warmupIterations;
+    private final int repetitions;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Instrumentation.Probe probe = new Instrumentation.Probe();
+
+    @SuppressWarnings("unused")
+    private volatile Object sink;
+
+    public MeasurementEngine(int warmupIterations, int repetitions) {
+        if (warmupIterations < 0) throw new IllegalArgumentException("Warmup iterations cannot be negative.");
+        if (repetitions <= 0) throw new IllegalArgumentException("Repetitions must be positive.");
+        this.warmupIterations = warmupIterations;
+        this.repetitions = repetitions;
+    }
+
+    public MeasurementEngine() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_REPETITIONS);
+    }
+
+    public int repetitions() {
+        return repetitions;
+    }
+
+    /**
+     * @param algorithm Name recorded with the result.
+     * @param inputSize Input size recorded with the result.
+     * @param inputFactory Creates one input per run; not timed.
+     * @param operation The timed operation.
+     * @return The summary over all timed repetitions.
+     */
+    public <T> Measurement measure(String algorithm, long inputSize, Supplier<T> inputFactory, Function<T, ?> operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = operation.apply(inputFactory.get());
+        }
+        histogram.reset();
+        long cpuNs = 0, allocatedBytes = 0, gcCount = 0, gcTimeMs = 0;
+        for (int i = 0; i < repetitions; i++) {
+            T input = inputFactory.get();
+            AlgorithmEvent event = new AlgorithmEvent();
+            event.begin();
+            probe.begin();
+            Object result = operation.apply(input);
+            probe.end();
+            event.end();
+            sink = result;
+            Instrumentation.commit(event, probe, algorithm, inputSize);
+            histogram.record(probe.wallNs);
+            cpuNs += probe.cpuNs;
+            allocatedBytes += probe.allocatedBytes;
+            gcCount += probe.gcCount;
+            gcTimeMs += probe.gcTimeMs;
+        }
+        return Measurement.of(algorithm, inputSize, histogram,
+                Instrumentation.isCpuTimeSupported() ? (double) cpuNs / repetitions : -1,
+                Instrumentation.isAllocationSupported() ? (double) allocatedBytes / repetitions : -1,
+                gcCount, gcTimeMs);
+    }
+
+    /** Measures an operation whose input can be reused across runs. */
+    public Measurement measure(String algorithm, long inputSize, Supplier<?> operation) {
+        return measure(algorithm, inputSize, () -> null, ignored -> operation.get());
+    }
+}
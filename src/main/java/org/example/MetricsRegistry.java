@@ -0,0 +1,70 @@
+package org.example;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cumulative per-algorithm totals of instrumented calls. Recording is lock-free
+ * (LongAdder per counter); {@link #snapshot()} reads the counters without stopping writers, so a
+ * snapshot taken under load may mix values from calls in flight.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * Totals for one algorithm. Allocation and CPU totals only include calls where the JVM could
+     * measure them.
+     */
+    public record Totals(long calls, long wallNs, long cpuNs, long allocatedBytes, long gcCount, long gcTimeMs) {
+
+        public double meanWallNs() { return calls == 0 ? 0 : (double) wallNs / calls; }
+
+        public double meanCpuNs() { return calls == 0 ? 0 : (double) cpuNs / calls; }
+
+        public double meanAllocatedBytes() { return calls == 0 ? 0 : (double) allocatedBytes / calls; }
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder wallNs = new LongAdder();
+        final LongAdder cpuNs = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAdder gcCount = new LongAdder();
+        final LongAdder gcTimeMs = new LongAdder();
+    }
+
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(CallProfile profile) {
+        Counters c = counters.computeIfAbsent(profile.algorithm(), k -> new Counters());
+        c.calls.increment();
+        c.wallNs.add(profile.wallNs());
+        if (profile.cpuNs() >= 0) c.cpuNs.add(profile.cpuNs());
+        if (profile.allocatedBytes() >= 0) c.allocatedBytes.add(profile.allocatedBytes());
+        c.gcCount.add(profile.gcCount());
+        c.gcTimeMs.add(profile.gcTimeMs());
+    }
+
+    /** @return Totals for the algorithm, all zero if it was never recorded. */
+    public Totals get(String algorithm) {
+        Counters c = counters.get(algorithm);
+        return c == null ? new Totals(0, 0, 0, 0, 0, 0) : totals(c);
+    }
+
+    /** @return Totals for every recorded algorithm, in name order. */
+    public Map<String, Totals> snapshot() {
+        Map<String, Totals> result = new TreeMap<>();
+        counters.forEach((name, c) -> result.put(name, totals(c)));
+        return result;
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private static Totals totals(Counters c) {
+        return new Totals(c.calls.sum(), c.wallNs.sum(), c.cpuNs.sum(), c.allocatedBytes.sum(),
+                c.gcCount.sum(), c.gcTimeMs.sum());
+    }
+}
@@ -0,0 +1,211 @@
+package org.example;
+
+/**
+ * Solves Ax = b by factoring a float copy of A and refining the solution in double.
+ *
+ * The O(N^3) factorization runs on float, which halves the bytes moved and doubles the elements
+ * per SIMD register. Each refinement step computes the residual r = b - Ax in double against the
+ * original A, solves for a correction with the float factors in O(N^2), and adds it to x. For a
+ * reasonably conditioned A every step gains about as many digits as float holds, so a few steps
+ * reach double accuracy.
+ *
+ * The stopping rule follows LAPACK's dsgesv: ||r|| <= ||x|| * ||A|| * eps * sqrt(N) in the
+ * infinity norm. If A does not fit in float, the float factorization meets a zero pivot, or the
+ * residual stops shrinking before that point, the system is solved again with the double
+ * {@link LUDecomposition} and the result says so.
+ */
+public final class MixedPrecisionSolver {
+
+    public static final int DEFAULT_MAX_ITERATIONS = 30;
+
+    /**
+     * @param solution The solution x.
+     * @param residual ||b - Ax|| in the infinity norm, computed in double.
+     * @param iterations Refinement steps taken in float before finishing or giving up.
+     * @param fallback True when the returned solution came from the double LU factorization.
+     */
+    public record Result(double[] solution, double residual, int iterations, boolean fallback) {}
+
+    private final int maxIterations;
+
+    public MixedPrecisionSolver() {
+        this(DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * @param maxIterations Refinement steps allowed before falling back to double; must be positive.
+     */
+    public MixedPrecisionSolver(int maxIterations) {
+        if (maxIterations <= 0) throw new IllegalArgumentException("Maximum iterations must be positive.");
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Solves a square system. A and b are not modified.
+     * @throws SingularMatrixException If A is singular in double precision as well.
+     */
+    public Result solve(double[][] A, double[] b) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Matrix is empty or null.");
+        int n = A.length;
+        for (double[] row : A) {
+            if (row == null || row.length != n) throw new IllegalArgumentException("Mixed-precision solve requires a square matrix.");
+        }
+        if (b == null || b.length != n) throw new IllegalArgumentException("Right-hand side must have length " + n + ".");
+
+        double normA = 0;
+        for (double[] row : A) {
+            double sum = 0;
+            for (double v : row) { sum += Math.abs(v); }
+            normA = Math.max(normA, sum);
+        }
+        double tolerance = normA * Math.ulp(1.0) / 2 * Math.sqrt(n);
+
+        FloatLU lu = FloatLU.factor(A);
+        int iterations = 0;
+        if (lu != null) {
+            double[] x = lu.solve(b);
+            double[] r = new double[n];
+            double previous = Double.POSITIVE_INFINITY;
+            while (true) {
+                double residual = residual(A, x, b, r);
+                if (residual <= maxAbs(x) * tolerance) return new Result(x, residual, iterations, false);
+                // Stop on divergence or stagnation rather than spending all the iterations
+                if (!(residual < previous) || iterations == maxIterations) break;
+                previous = residual;
+                // Scale r to unit norm before it is rounded to float, so small residuals do not underflow
+                for (int i = 0; i < n; i++) { r[i] /= residual; }
+                double[] d = lu.solve(r);
+                for (int i = 0; i < n; i++) { x[i] += d[i] * residual; }
+                iterations++;
+            }
+        }
+        double[] x = LUDecomposition.factor(A).solve(b);
+        return new Result(x, residual(A, x, b, new double[n]), iterations, true);
+    }
+
+    /** Writes r = b - Ax (in double) and returns its infinity norm; NaN propagates. */
+    private static double residual(double[][] A, double[] x, double[] b, double[] r) {
+        double norm = 0;
+        for (int i = 0; i < A.length; i++) {
+            double[] row = A[i];
+            double sum = b[i];
+            for (int j = 0; j < row.length; j++) { sum -= row[j] * x[j]; }
+            r[i] = sum;
+            norm = Double.isNaN(sum) ? Double.NaN : Math.max(norm, Math.abs(sum));
+        }
+        return norm;
+    }
+
+    private static double maxAbs(double[] x) {
+        double max = 0;
+        for (double v : x) { max = Math.max(max, Math.abs(v)); }
+        return max;
+    }
+
+    /**
+     * Blocked right-looking LU with partial pivoting in float: a line-for-line copy of
+     * {@link LUDecomposition#factor(double[][], int)} and its solve at half the element width. The
+     * one difference is that a zero or non-finite pivot aborts, so the caller falls back to double.
+     * Keep the two in step.
+     */
+    private static final class FloatLU {
+
+        private static final int BLOCK_SIZE = LUDecomposition.DEFAULT_BLOCK_SIZE;
+
+        private final int n;
+        private final float[] lu;
+        private final int[] perm;
+
+        private FloatLU(int n, float[] lu, int[] perm) {
+            this.n = n;
+            this.lu = lu;
+            this.perm = perm;
+        }
+
+        /** @return The factors, or null if A overflows float or a zero pivot is met. */
+        static FloatLU factor(double[][] A) {
+            int n = A.length;
+            float[] a = new float[Math.multiplyExact(n, n)];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    float v = (float) A[i][j];
+                    if (Float.isInfinite(v) && !Double.isInfinite(A[i][j])) return null;
+                    a[i * n + j] = v;
+                }
+            }
+            int[] perm = new int[n];
+            for (int i = 0; i < n; i++) { perm[i] = i; }
+
+            for (int j0 = 0; j0 < n; j0 += BLOCK_SIZE) {
+                int jEnd = Math.min(j0 + BLOCK_SIZE, n);
+
+                for (int j = j0; j < jEnd; j++) {
+                    int maxRow = j;
+                    for (int k = j + 1; k < n; k++) {
+                        if (Math.abs(a[k * n + j]) > Math.abs(a[maxRow * n + j])) { maxRow = k; }
+                    }
+                    if (maxRow != j) {
+                        for (int k = 0; k < n; k++) {
+                            float t = a[j * n + k];
+                            a[j * n + k] = a[maxRow * n + k];
+                            a[maxRow * n + k] = t;
+                        }
+                        int t = perm[j]; perm[j] = perm[maxRow]; perm[maxRow] = t;
+                    }
+                    float pivot = a[j * n + j];
+                    if (pivot == 0.0f || !Float.isFinite(pivot)) return null;
+                    for (int i = j + 1; i < n; i++) {
+                        int row = i * n;
+                        float l = a[row + j] / pivot;
+                        a[row + j] = l;
+                        for (int k = j + 1; k < jEnd; k++) { a[row + k] -= l * a[j * n + k]; }
+                    }
+                }
+                if (jEnd == n) break;
+
+                // U12 = L11^-1 A12
+                for (int j = j0; j < jEnd; j++) {
+                    for (int i = j + 1; i < jEnd; i++) {
+                        float l = a[i * n + j];
+                        if (l == 0.0f) continue;
+                        int ri = i * n, rj = j * n;
+                        for (int k = jEnd; k < n; k++) { a[ri + k] -= l * a[rj + k]; }
+                    }
+                }
+
+                // A22 -= L21 U12
+                for (int i = jEnd; i < n; i++) {
+                    int ri = i * n;
+                    for (int k = j0; k < jEnd; k++) {
+                        float l = a[ri + k];
+                        if (l == 0.0f) continue;
+                        int rk = k * n;
+                        for (int c = jEnd; c < n; c++) { a[ri + c] -= l * a[rk + c]; }
+                    }
+                }
+            }
+            return new FloatLU(n, a, perm);
+        }
+
+        /** Solves with the float factors; the right-hand side is rounded to float, the result widened. */
+        double[] solve(double[] b) {
+            float[] y = new float[n];
+            for (int i = 0; i < n; i++) { y[i] = (float) b[perm[i]]; }
+            for (int i = 1; i < n; i++) {
+                int row = i * n;
+                float sum = y[i];
+                for (int k = 0; k < i; k++) { sum -= lu[row + k] * y[k]; }
+                y[i] = sum;
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                int row = i * n;
+                float sum = y[i];
+                for (int k = i + 1; k < n; k++) { sum -= lu[row + k] * y[k]; }
+                y[i] = sum / lu[row + i];
+            }
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) { x[i] = y[i]; }
+            return x;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Row-major matrix of doubles stored outside the Java heap, either in direct buffers or in a
+ * memory-mapped file. Elements are little-endian doubles, so a mapped file is simply rows * cols
+ * raw values with no header.
+ *
+ * A single NIO buffer is limited to 2 GB, so storage is split into chunks of whole rows; only the
+ * rows being worked on have to be resident, and the OS pages mapped chunks in and out on demand.
+ * The backing memory is never scanned by the garbage collector.
+ */
+public final class OffHeapMatrix implements AutoCloseable {
+
+    /** Upper bound on the bytes held by one backing buffer. */
+    static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    private final int rows;
+    private final int cols;
+    private final int rowsPerChunk;
+    private final DoubleBuffer[] chunks;
+    private final FileChannel channel;
+
+    private OffHeapMatrix(int rows, int cols, int rowsPerChunk, DoubleBuffer[] chunks, FileChannel channel) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerChunk = rowsPerChunk;
+        this.chunks = chunks;
+        this.channel = channel;
+    }
+
+    /**
+     * Allocates a zero-filled matrix in direct (off-heap) memory.
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     * @return The new matrix.
+     */
+    public static OffHeapMatrix allocateDirect(int rows, int cols) {
+        int rowsPerChunk = rowsPerChunk(rows, cols);
+        DoubleBuffer[] chunks = new DoubleBuffer[(rows + rowsPerChunk - 1) / rowsPerChunk];
+        for (int c = 0; c < chunks.length; c++) {
+            int chunkRows = Math.min(rowsPerChunk, rows - c * rowsPerChunk);
+            chunks[c] = ByteBuffer.allocateDirect(chunkRows * cols * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        return new OffHeapMatrix(rows, cols, rowsPerChunk, chunks, null);
+    }
+
+    /**
+     * Maps a file of rows * cols little-endian doubles. In READ_WRITE mode the file is created or
+     * extended as needed and writes go straight to the page cache.
+     * @param file The backing file.
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     * @param mode READ_ONLY or READ_WRITE.
+     * @return The mapped matrix; close it to release the file channel.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public static OffHeapMatrix map(Path file, int rows, int cols, FileChannel.MapMode mode) throws IOException {
+        if (mode != FileChannel.MapMode.READ_ONLY && mode != FileChannel.MapMode.READ_WRITE) {
+            throw new IllegalArgumentException("Only READ_ONLY and READ_WRITE mappings are supported.");
+        }
+        int rowsPerChunk = rowsPerChunk(rows, cols);
+        FileChannel channel = mode == FileChannel.MapMode.READ_ONLY
+                ? FileChannel.open(file, StandardOpenOption.READ)
+                : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            long required = (long) rows * cols * Double.BYTES;
+            if (mode == FileChannel.MapMode.READ_ONLY && channel.size() < required) {
+                throw new IllegalArgumentException("File is smaller than " + rows + "x" + cols + " doubles.");
+            }
+            DoubleBuffer[] chunks = new DoubleBuffer[(rows + rowsPerChunk - 1) / rowsPerChunk];
+            for (int c = 0; c < chunks.length; c++) {
+                int chunkRows = Math.min(rowsPerChunk, rows - c * rowsPerChunk);
+                long position = (long) c * rowsPerChunk * cols * Double.BYTES;
+                chunks[c] = channel.map(mode, position, (long) chunkRows * cols * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+            return new OffHeapMatrix(rows, cols, rowsPerChunk, chunks, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static int rowsPerChunk(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        long rowBytes = (long) cols * Double.BYTES;
+        if (rowBytes > MAX_CHUNK_BYTES) throw new IllegalArgumentException("A single row must fit in one chunk.");
+        return (int) Math.min(rows, MAX_CHUNK_BYTES / rowBytes);
+    }
+
+    /**
+     * Copies an on-heap matrix into direct memory.
+     * @param A The source matrix; every row must have the same length.
+     * @return A new off-heap copy of A.
+     */
+    public static OffHeapMatrix of(double[][] A) {
+        Matrix.of(A); // Validates shape
+        OffHeapMatrix m = allocateDirect(A.length, A[0].length);
+        for (int i = 0; i < A.length; i++) {
+            m.writeRow(i, 0, A[i], 0, A[i].length);
+        }
+        return m;
+    }
+
+    /**
+     * Copies this matrix onto the heap; only sensible for matrices that fit in memory.
+     * @return The jagged-array form of this matrix.
+     */
+    public double[][] toArray() {
+        double[][] A = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            readRow(i, 0, A[i], 0, cols);
+        }
+        return A;
+    }
+
+    public int rows() { return rows; }
+
+    public int cols() { return cols; }
+
+    public double get(int i, int j) {
+        checkIndex(i, j);
+        return chunks[i / rowsPerChunk].get((i % rowsPerChunk) * cols + j);
+    }
+
+    public void set(int i, int j, double value) {
+        checkIndex(i, j);
+        chunks[i / rowsPerChunk].put((i % rowsPerChunk) * cols + j, value);
+    }
+
+    /** Copies len elements of row i, starting at column col, into dst[dstOff...]. */
+    public void readRow(int i, int col, double[] dst, int dstOff, int len) {
+        checkRange(i, col, len);
+        chunks[i / rowsPerChunk].get((i % rowsPerChunk) * cols + col, dst, dstOff, len);
+    }
+
+    /** Copies len elements from src[srcOff...] into row i, starting at column col. */
+    public void writeRow(int i, int col, double[] src, int srcOff, int len) {
+        checkRange(i, col, len);
+        chunks[i / rowsPerChunk].put((i % rowsPerChunk) * cols + col, src, srcOff, len);
+    }
+
+    private void checkIndex(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= cols) {
+            throw new IndexOutOfBoundsException("(" + i + ", " + j + ") outside " + rows + "x" + cols + " matrix.");
+        }
+    }
+
+    private void checkRange(int i, int col, int len) {
+        if (i < 0 || i >= rows || col < 0 || len < 0 || col + len > cols) {
+            throw new IndexOutOfBoundsException("Row " + i + " columns [" + col + ", " + (col + len) + ") outside " + rows + "x" + cols + " matrix.");
+        }
+    }
+
+    /**
+     * Releases the file channel of a mapped matrix. Mapped pages are unmapped by the JVM once the
+     * buffers become unreachable; direct buffers are freed the same way.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) channel.close();
+    }
+}
@@ -0,0 +1,255 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes batch operands as compact binary or as CSV, chosen by file extension: ".bin"
+ * files are binary, anything else is CSV.
+ *
+ * Binary layout, all little-endian: a matrix is int32 rows, int32 cols, then rows * cols float64
+ * values in row-major order; an array is int32 length followed by that many int32 or float64
+ * values. Binary files are read through read-only memory maps of at most 1 GB each, copied in bulk
+ * into heap arrays, and written through one direct buffer. In CSV a matrix is one line per row;
+ * an array may be split over any number of lines.
+ */
+public final class OperandIO {
+
+    private static final int MATRIX_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int ARRAY_HEADER_BYTES = Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private OperandIO() {
+    }
+
+    static boolean isBinary(Path file) {
+        return file.getFileName().toString().endsWith(".bin");
+    }
+
+    public static double[][] readMatrix(Path file) throws IOException {
+        return isBinary(file) ? readBinaryMatrix(file) : readCsvMatrix(file);
+    }
+
+    public static int[] readIntArray(Path file) throws IOException {
+        if (!isBinary(file)) return readCsvIntArray(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int length = readArrayHeader(channel, Integer.BYTES, file);
+            int[] values = new int[length];
+            int done = 0;
+            long position = ARRAY_HEADER_BYTES;
+            while (done < length) {
+                int count = (int) Math.min(length - done, OffHeapMatrix.MAX_CHUNK_BYTES / Integer.BYTES);
+                IntBuffer ints = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                ints.get(values, done, count);
+                done += count;
+                position += (long) count * Integer.BYTES;
+            }
+            return values;
+        }
+    }
+
+    public static double[] readDoubleArray(Path file) throws IOException {
+        if (!isBinary(file)) return readCsvDoubleArray(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int length = readArrayHeader(channel, Double.BYTES, file);
+            double[] values = new double[length];
+            int done = 0;
+            long position = ARRAY_HEADER_BYTES;
+            while (done < length) {
+                int count = (int) Math.min(length - done, OffHeapMatrix.MAX_CHUNK_BYTES / Double.BYTES);
+                DoubleBuffer doubles = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                doubles.get(values, done, count);
+                done += count;
+                position += (long) count * Double.BYTES;
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Opens a binary array file positioned at its first element, for streaming scans that never
+     * load the whole array (see {@link StreamingScans}).
+     * @param elementBytes Size of one element, used to validate the file length.
+     */
+    static FileChannel openArrayBody(Path file, int elementBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            readArrayHeader(channel, elementBytes, file);
+            channel.position(ARRAY_HEADER_BYTES);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static double[][] readBinaryMatrix(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readHeader(channel, MATRIX_HEADER_BYTES, file);
+            int rows = header.getInt();
+            int cols = header.getInt();
+            if (rows <= 0 || cols <= 0) throw new IllegalArgumentException(file + ": matrix dimensions must be positive.");
+            long rowBytes = (long) cols * Double.BYTES;
+            if (channel.size() != MATRIX_HEADER_BYTES + rows * rowBytes) {
+                throw new IllegalArgumentException(file + ": size does not match a " + rows + "x" + cols + " matrix.");
+            }
+            if (rowBytes > OffHeapMatrix.MAX_CHUNK_BYTES) throw new IllegalArgumentException(file + ": rows are too long to map.");
+            double[][] matrix = new double[rows][cols];
+            int rowsPerMap = (int) Math.min(rows, OffHeapMatrix.MAX_CHUNK_BYTES / rowBytes);
+            long position = MATRIX_HEADER_BYTES;
+            for (int row = 0; row < rows; row += rowsPerMap) {
+                int count = Math.min(rowsPerMap, rows - row);
+                DoubleBuffer doubles = channel.map(FileChannel.MapMode.READ_ONLY, position, count * rowBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                for (int r = 0; r < count; r++) { doubles.get(matrix[row + r]); }
+                position += count * rowBytes;
+            }
+            return matrix;
+        }
+    }
+
+    private static int readArrayHeader(FileChannel channel, int elementBytes, Path file) throws IOException {
+        int length = readHeader(channel, ARRAY_HEADER_BYTES, file).getInt();
+        if (length < 0) throw new IllegalArgumentException(file + ": array length cannot be negative.");
+        if (channel.size() != ARRAY_HEADER_BYTES + (long) length * elementBytes) {
+            throw new IllegalArgumentException(file + ": size does not match an array of " + length + " elements.");
+        }
+        return length;
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel, int bytes, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) throw new IllegalArgumentException(file + ": missing header.");
+        }
+        return header.flip();
+    }
+
+    private static double[][] readCsvMatrix(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            CsvParser parser = new CsvParser(in);
+            List<double[]> rows = new ArrayList<>();
+            double[] row = new double[16];
+            int cols = 0;
+            int token;
+            while ((token = parser.next()) != CsvParser.END_OF_INPUT) {
+                if (token == CsvParser.FIELD) {
+                    if (cols == row.length) row = Arrays.copyOf(row, row.length * 2);
+                    row[cols++] = parser.doubleField();
+                } else {
+                    if (!rows.isEmpty() && cols != rows.get(0).length) {
+                        throw new IllegalArgumentException(file + ": row on line " + (parser.line() - 1) + " has "
+                                + cols + " values, expected " + rows.get(0).length + ".");
+                    }
+                    rows.add(Arrays.copyOf(row, cols));
+                    cols = 0;
+                }
+            }
+            if (rows.isEmpty()) throw new IllegalArgumentException(file + ": matrix is empty.");
+            return rows.toArray(new double[0][]);
+        }
+    }
+
+    private static int[] readCsvIntArray(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            CsvParser parser = new CsvParser(in);
+            int[] values = new int[1024];
+            int length = 0;
+            int token;
+            while ((token = parser.next()) != CsvParser.END_OF_INPUT) {
+                if (token != CsvParser.FIELD) continue;
+                if (length == values.length) values = Arrays.copyOf(values, values.length * 2);
+                values[length++] = parser.intField();
+            }
+            return Arrays.copyOf(values, length);
+        }
+    }
+
+    private static double[] readCsvDoubleArray(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            CsvParser parser = new CsvParser(in);
+            double[] values = new double[1024];
+            int length = 0;
+            int token;
+            while ((token = parser.next()) != CsvParser.END_OF_INPUT) {
+                if (token != CsvParser.FIELD) continue;
+                if (length == values.length) values = Arrays.copyOf(values, values.length * 2);
+                values[length++] = parser.doubleField();
+            }
+            return Arrays.copyOf(values, length);
+        }
+    }
+
+    public static void writeMatrix(Path file, double[][] matrix) throws IOException {
+        if (!isBinary(file)) {
+            try (Writer out = newTextWriter(file)) {
+                writeCsvMatrix(out, matrix);
+            }
+            return;
+        }
+        try (FileChannel channel = openForWrite(file)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(matrix.length).putInt(matrix.length == 0 ? 0 : matrix[0].length);
+            for (double[] row : matrix) { putDoubles(channel, buffer, row); }
+            drain(channel, buffer);
+        }
+    }
+
+    /** Writes one CSV line per row; Double.toString round-trips exactly. */
+    static void writeCsvMatrix(Writer out, double[][] matrix) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (double[] row : matrix) {
+            line.setLength(0);
+            for (int j = 0; j < row.length; j++) {
+                if (j > 0) line.append(',');
+                line.append(row[j]);
+            }
+            line.append('\n');
+            out.append(line);
+        }
+    }
+
+    static BufferedWriter newTextWriter(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    static FileChannel openForWrite(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /** Bulk-copies values into the buffer, draining it to the channel whenever it fills. */
+    static void putDoubles(FileChannel channel, ByteBuffer buffer, double[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            if (buffer.remaining() < Double.BYTES) drain(channel, buffer);
+            int count = Math.min(values.length - offset, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+        }
+    }
+
+    /** Writes out everything put into the buffer and clears it. */
+    static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) { channel.write(buffer); }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Multiplication and elimination over {@link OffHeapMatrix} operands.
+ *
+ * Data is streamed through a few fixed-size heap buffers (three tiles for multiplication, two
+ * rows for elimination), so heap usage does not depend on the matrix size and the off-heap pages
+ * are visited in a sequential, row-major order.
+ */
+public final class OutOfCoreOperations {
+
+    /** 256 x 256 doubles = 512 KB per tile, large enough to amortise the copy in and out. */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private OutOfCoreOperations() {
+    }
+
+    /**
+     * Computes C = A * B tile by tile. C is overwritten; it must not alias A or B.
+     * Each output element accumulates in ascending k order, so results match multiplyMatrices.
+     */
+    public static void multiply(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix C, int tileSize) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive.");
+        if (A.cols() != B.rows() || C.rows() != A.rows() || C.cols() != B.cols()) {
+            throw new IllegalArgumentException("Matrices must be compatible for multiplication (A.cols == B.rows, C is A.rows x B.cols).");
+        }
+        if (C == A || C == B) throw new IllegalArgumentException("Output matrix must not alias an operand.");
+        int n = A.rows(), p = A.cols(), m = B.cols();
+        double[] aTile = new double[tileSize * tileSize];
+        double[] bTile = new double[tileSize * tileSize];
+        double[] cTile = new double[tileSize * tileSize];
+        MatrixMultiplier kernel = MatrixMultiplier.defaultMultiplier();
+
+        for (int ii = 0; ii < n; ii += tileSize) {
+            int ti = Math.min(tileSize, n - ii);
+            for (int jj = 0; jj < m; jj += tileSize) {
+                int tj = Math.min(tileSize, m - jj);
+                Arrays.fill(cTile, 0, ti * tj, 0.0);
+                for (int kk = 0; kk < p; kk += tileSize) {
+                    int tk = Math.min(tileSize, p - kk);
+                    for (int r = 0; r < ti; r++) { A.readRow(ii + r, kk, aTile, r * tk, tk); }
+                    for (int r = 0; r < tk; r++) { B.readRow(kk + r, jj, bTile, r * tj, tj); }
+                    kernel.multiplyBlock(aTile, bTile, cTile, ti, tk, tj, 0, ti, 0, tj);
+                }
+                for (int r = 0; r < ti; r++) { C.writeRow(ii + r, jj, cTile, r * tj, tj); }
+            }
+        }
+    }
+
+    /**
+     * Row-echelon reduction with partial pivoting, performed in place on off-heap storage.
+     * Mirrors {@link Algorithms#gaussianElimination(double[][])}: columns with a zero pivot are skipped.
+     * @return The elimination status, listing any zero pivots.
+     */
+    public static EliminationResult eliminate(OffHeapMatrix A) {
+        int n = A.rows();
+        int m = A.cols();
+        int pivots = Math.min(n, m);
+        double[] pivotRow = new double[m];
+        double[] row = new double[m];
+        int[] zeroPivots = new int[pivots];
+        int zeroCount = 0;
+
+        for (int i = 0; i < pivots; i++) {
+            int maxRow = i;
+            double maxAbs = Math.abs(A.get(i, i));
+            for (int k = i + 1; k < n; k++) {
+                double v = Math.abs(A.get(k, i));
+                if (v > maxAbs) { maxAbs = v; maxRow = k; }
+            }
+            A.readRow(maxRow, 0, pivotRow, 0, m);
+            if (maxRow != i) {
+                A.readRow(i, 0, row, 0, m);
+                A.writeRow(maxRow, 0, row, 0, m);
+                A.writeRow(i, 0, pivotRow, 0, m);
+            }
+            double pivot = pivotRow[i];
+            if (pivot == 0.0) {
+                zeroPivots[zeroCount++] = i;
+                continue;
+            }
+            for (int j = i + 1; j < n; j++) {
+                A.readRow(j, i, row, i, m - i);
+                double factor = row[i] / pivot;
+                for (int k = i; k < m; k++) { row[k] -= pivotRow[k] * factor; }
+                A.writeRow(j, i, row, i, m - i);
+            }
+        }
+        return EliminationResult.of(zeroPivots, zeroCount);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join matrix multiplication. The output matrix is split recursively into row/column
+ * blocks aligned to the tile size, and each leaf block is computed by the sequential
+ * {@link MatrixMultiplier} kernel. Blocks never share output elements and every element is
+ * still accumulated in ascending k order, so the result is bit-identical to the sequential path.
+ */
+public final class ParallelMatrixMultiplier {
+
+    /** Leaf blocks below this many multiply-adds (rows * cols * inner) are not split further. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 18;
+
+    private final ForkJoinPool pool;
+    private final MatrixMultiplier kernel;
+    private final long sequentialCutoff;
+
+    /**
+     * @param pool The pool the tasks run in; supplied by the caller so parallelism can be capped.
+     * @param tileSize The tile size passed to the sequential kernel.
+     * @param sequentialCutoff Multiply-add count below which a block is computed without forking.
+     */
+    public ParallelMatrixMultiplier(ForkJoinPool pool, int tileSize, long sequentialCutoff) {
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null.");
+        if (sequentialCutoff <= 0) throw new IllegalArgumentException("Sequential cutoff must be positive.");
+        this.pool = pool;
+        this.kernel = new MatrixMultiplier(tileSize);
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    public ParallelMatrixMultiplier(ForkJoinPool pool) {
+        this(pool, Autotuner.profile().tileSize(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Multiplies A (n x p) by B (p x m) using the configured pool.
+     * @return A new n x m matrix holding A * B.
+     */
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (A.cols() != B.rows()) {
+            throw new IllegalArgumentException("Matrices must be compatible for multiplication (A.cols == B.rows).");
+        }
+        Matrix C = new Matrix(A.rows(), B.cols());
+        BlockTask root = new BlockTask(A.data(), B.data(), C.data(), A.rows(), A.cols(), B.cols(),
+                0, A.rows(), 0, B.cols());
+        if (blockWork(A.rows(), B.cols(), A.cols()) <= sequentialCutoff) {
+            root.compute(); // Small products stay on the calling thread
+        } else {
+            pool.invoke(root);
+        }
+        return C;
+    }
+
+    private static long blockWork(int rows, int cols, int inner) {
+        return (long) rows * cols * inner;
+    }
+
+    private final class BlockTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a, b, c;
+        private final int n, p, m;
+        private final int rowStart, rowEnd, colStart, colEnd;
+
+        BlockTask(double[] a, double[] b, double[] c, int n, int p, int m,
+                  int rowStart, int rowEnd, int colStart, int colEnd) {
+            this.a = a; this.b = b; this.c = c;
+            this.n = n; this.p = p; this.m = m;
+            this.rowStart = rowStart; this.rowEnd = rowEnd;
+            this.colStart = colStart; this.colEnd = colEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowEnd - rowStart;
+            int cols = colEnd - colStart;
+            int t = kernel.tileSize();
+            boolean canSplitRows = rows > t;
+            boolean canSplitCols = cols > t;
+            if (blockWork(rows, cols, p) <= sequentialCutoff || (!canSplitRows && !canSplitCols)) {
+                kernel.multiplyBlock(a, b, c, n, p, m, rowStart, rowEnd, colStart, colEnd);
+                return;
+            }
+            // Split the longer side at a tile boundary so leaves keep whole tiles
+            if (canSplitRows && (rows >= cols || !canSplitCols)) {
+                int mid = rowStart + alignedHalf(rows, t);
+                invokeAll(new BlockTask(a, b, c, n, p, m, rowStart, mid, colStart, colEnd),
+                          new BlockTask(a, b, c, n, p, m, mid, rowEnd, colStart, colEnd));
+            } else {
+                int mid = colStart + alignedHalf(cols, t);
+                invokeAll(new BlockTask(a, b, c, n, p, m, rowStart, rowEnd, colStart, mid),
+                          new BlockTask(a, b, c, n, p, m, rowStart, rowEnd, mid, colEnd));
+            }
+        }
+
+        private int alignedHalf(int length, int t) {
+            int tiles = (length + t - 1) / t;
+            return (tiles / 2) * t;
+        }
+    }
+}
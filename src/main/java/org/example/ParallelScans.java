@@ -0,0 +1,340 @@
+package org.example;
+
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Fork/join versions of the linear scans in {@link Algorithms}, with results identical to the serial
+ * methods. Arrays shorter than the serial threshold are scanned on the calling thread, where the
+ * cost of forking would outweigh the work.
+ *
+ * The array is split into a few chunks per worker, each a whole number of cache lines long so that
+ * neighbouring chunks never share a line.
+ */
+public final class ParallelScans {
+
+    /** Below this many elements the serial scans win; about 100 microseconds of scanning. */
+    public static final int DEFAULT_SERIAL_THRESHOLD = 1 << 18;
+
+    /** Chunk lengths are multiples of this many elements: whole 64-byte lines for both ints and doubles. */
+    private static final int ALIGNMENT = 64;
+    private static final int CHUNKS_PER_WORKER = 4;
+    /** Search chunks check for a lower match between blocks of this many elements. */
+    private static final int CANCEL_CHECK_INTERVAL = 1 << 12;
+    /** The hashed checkUnique scatters at least this many elements per window, so tiny windows do not cost a fork each. */
+    static final int FIRST_WINDOW = 1 << 16;
+    /** ... and at most this many, 16 MB of scattered indices. */
+    static final int MAX_WINDOW = 1 << 22;
+
+    /** Atomic access to the words of the shared bitset. */
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ForkJoinPool pool;
+    private final int serialThreshold;
+
+    /**
+     * @param pool The pool to run chunks on.
+     * @param serialThreshold Arrays shorter than this are scanned serially; must be positive.
+     */
+    public ParallelScans(ForkJoinPool pool, int serialThreshold) {
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null.");
+        if (serialThreshold <= 0) throw new IllegalArgumentException("Serial threshold must be positive.");
+        this.pool = pool;
+        this.serialThreshold = serialThreshold;
+    }
+
+    /** Uses the tuned serial threshold ({@link #DEFAULT_SERIAL_THRESHOLD} without a profile). */
+    public ParallelScans(ForkJoinPool pool) {
+        this(pool, Autotuner.profile().scanSerialThreshold());
+    }
+
+    /**
+     * Index of the first occurrence of K, or -1. Chunks race, but every match lowers a shared bound
+     * and chunks lying wholly above the bound stop early, so the first occurrence is still found.
+     */
+    public int sequentialSearch(int[] A, int K) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        if (A.length < serialThreshold) return Algorithms.sequentialSearch(A, K);
+        int chunk = chunkLength(A.length);
+        AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+        forEachChunk(chunkCount(A.length, chunk), c -> {
+            int from = c * chunk;
+            int to = chunkEnd(from, chunk, A.length);
+            for (int block = from, end; block < to && block < first.get(); block = end) {
+                end = chunkEnd(block, CANCEL_CHECK_INTERVAL, to);
+                for (int i = block; i < end; i++) {
+                    if (A[i] == K) {
+                        first.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        });
+        int index = first.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * Same result as {@link Algorithms#findMaxElement(double[])}, including NaN and signed zeros. Every
+     * chunk folds with the serial comparison starting from A[0], and the chunk results are combined in
+     * array order with the same comparison: a NaN in A[0] survives every step, later NaNs never win,
+     * and among equal maxima (0.0 and -0.0) the earliest is kept.
+     */
+    public double findMaxElement(double[] A) {
+        if (A == null || A.length == 0) throw new IllegalArgumentException("Empty list.");
+        if (A.length < serialThreshold) return Algorithms.findMaxElement(A);
+        int chunk = chunkLength(A.length);
+        double[] partial = new double[chunkCount(A.length, chunk)];
+        forEachChunk(partial.length, c -> {
+            int from = c * chunk;
+            int to = chunkEnd(from, chunk, A.length);
+            double maxval = A[0];
+            for (int i = from; i < to; i++) {
+                if (A[i] > maxval) { maxval = A[i]; }
+            }
+            partial[c] = maxval;
+        });
+        double maxval = partial[0];
+        for (int c = 1; c < partial.length; c++) {
+            if (partial[c] > maxval) { maxval = partial[c]; }
+        }
+        return maxval;
+    }
+
+    /**
+     * Duplicate check with the same result as {@link UniquenessChecker.Strategy#AUTO} gives without
+     * sorting: the earliest second occurrence of any value, and that value's first occurrence. As
+     * in AUTO, a dense value range is checked against a bitset and anything else with hash maps.
+     * With a single worker there is nothing to split, and the serial check runs instead.
+     *
+     * Bitset: chunks set the bits of their elements with atomic ORs, all stopping once any chunk
+     * meets a bit that is already set. If none does, the values are unique. Otherwise the bitset
+     * is cleared and the serial check runs over it; it stops at the earliest second occurrence, so
+     * a duplicate at index j costs O(j) serial work on top of the parallel pass.
+     *
+     * Hash: element indices are scattered by value hash into partitions, so equal values always
+     * land in the same partition, and the partitions are checked independently with hash maps that
+     * start small and grow. The scatter keeps indices ascending within each partition, so each
+     * partition finds its earliest second occurrence, and the lowest of those is the serial answer.
+     * The array is processed in windows that start at {@link #FIRST_WINDOW} elements and double,
+     * with the maps remembering earlier windows, so a duplicate at index j stops the check after
+     * O(j) elements have been scattered. Extra space is 4 bytes per element of the largest window
+     * (at most {@link #MAX_WINDOW}) plus the maps.
+     */
+    public UniquenessChecker.Result checkUnique(int[] A) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        if (A.length < serialThreshold || pool.getParallelism() == 1) return UniquenessChecker.checkWithoutSorting(A);
+        long[] range = minMax(A);
+        if (UniquenessChecker.bitsetFits(range[0], range[1], A.length)) return checkWithBitset(A, range[0], range[1]);
+        return checkWithHash(A);
+    }
+
+    private long[] minMax(int[] A) {
+        int chunk = chunkLength(A.length);
+        int[] mins = new int[chunkCount(A.length, chunk)];
+        int[] maxs = new int[mins.length];
+        forEachChunk(mins.length, c -> {
+            int from = c * chunk;
+            int to = chunkEnd(from, chunk, A.length);
+            int min = A[from], max = A[from];
+            for (int i = from + 1; i < to; i++) {
+                if (A[i] < min) { min = A[i]; } else if (A[i] > max) { max = A[i]; }
+            }
+            mins[c] = min;
+            maxs[c] = max;
+        });
+        int min = mins[0], max = maxs[0];
+        for (int c = 1; c < mins.length; c++) {
+            min = Math.min(min, mins[c]);
+            max = Math.max(max, maxs[c]);
+        }
+        return new long[] {min, max};
+    }
+
+    private UniquenessChecker.Result checkWithBitset(int[] A, long min, long max) {
+        long[] bits = new long[(int) ((max - min + 64) >>> 6)];
+        AtomicBoolean collided = new AtomicBoolean();
+        int chunk = chunkLength(A.length);
+        forEachChunk(chunkCount(A.length, chunk), c -> {
+            int from = c * chunk;
+            int to = chunkEnd(from, chunk, A.length);
+            for (int block = from, end; block < to && !collided.get(); block = end) {
+                end = chunkEnd(block, CANCEL_CHECK_INTERVAL, to);
+                for (int i = block; i < end; i++) {
+                    long offset = A[i] - min;
+                    long bit = 1L << offset;
+                    if (((long) BITS.getAndBitwiseOr(bits, (int) (offset >>> 6), bit) & bit) != 0) {
+                        collided.set(true);
+                        return;
+                    }
+                }
+            }
+        });
+        if (!collided.get()) return UniquenessChecker.Result.unique(UniquenessChecker.Strategy.BITSET);
+        int wordChunk = chunkLength(bits.length);
+        forEachChunk(chunkCount(bits.length, wordChunk), c -> {
+            int from = c * wordChunk;
+            Arrays.fill(bits, from, chunkEnd(from, wordChunk, bits.length), 0L);
+        });
+        return UniquenessChecker.checkWithBitset(A, min, bits);
+    }
+
+    private UniquenessChecker.Result checkWithHash(int[] A) {
+        int n = A.length;
+        int chunks = CHUNKS_PER_WORKER * pool.getParallelism();
+        int partitionBits = Math.max(4, 32 - Integer.numberOfLeadingZeros(Math.max(chunks, n >>> 16) - 1));
+        partitionBits = Math.min(partitionBits, 12);
+        HashPartitions partitions = new HashPartitions(A, partitionBits, chunks, Math.min(n, MAX_WINDOW));
+        for (int from = 0, window = Math.max(serialThreshold, FIRST_WINDOW); from < n; ) {
+            int to = chunkEnd(from, window, n);
+            UniquenessChecker.Result result = partitions.check(from, to);
+            if (result != null) return result;
+            from = to;
+            window = (int) Math.min(MAX_WINDOW, 2L * window);
+        }
+        return UniquenessChecker.Result.unique(UniquenessChecker.Strategy.HASH);
+    }
+
+    /** Fibonacci hashing: the top bits of value * 2^32/phi, independent of the maps' own hash. */
+    private static int partitionOf(int value, int shift) {
+        return (value * 0x9E3779B9) >>> shift;
+    }
+
+    /** Per-partition maps of one checkUnique call, carried from window to window. */
+    private final class HashPartitions {
+        private final int[] A;
+        private final int shift;
+        private final int[][] counts;
+        private final int[] indices;
+        private final int[] partitionStart;
+        private final int[] firstOf;
+        private final int[] secondOf;
+        private final IntIntHashMap[] maps;
+
+        HashPartitions(int[] A, int partitionBits, int chunks, int maxWindow) {
+            int partitions = 1 << partitionBits;
+            this.A = A;
+            this.shift = 32 - partitionBits;
+            counts = new int[chunks][partitions];
+            indices = new int[maxWindow];
+            partitionStart = new int[partitions + 1];
+            firstOf = new int[partitions];
+            secondOf = new int[partitions];
+            maps = new IntIntHashMap[partitions];
+        }
+
+        /** Checks A[from, to) against everything before it; null when no value repeats up to to. */
+        UniquenessChecker.Result check(int from, int to) {
+            int partitions = maps.length;
+            int chunk = chunkLength(to - from);
+            int chunks = chunkCount(to - from, chunk);
+
+            // Pass 1: per-chunk partition sizes
+            forEachChunk(chunks, c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                int start = from + c * chunk;
+                int end = chunkEnd(start, chunk, to);
+                for (int i = start; i < end; i++) { count[partitionOf(A[i], shift)]++; }
+            });
+            // Offsets: partition-major, chunk order within each partition, so indices stay ascending
+            int offset = 0;
+            for (int p = 0; p < partitions; p++) {
+                partitionStart[p] = offset;
+                for (int c = 0; c < chunks; c++) {
+                    int size = counts[c][p];
+                    counts[c][p] = offset;
+                    offset += size;
+                }
+            }
+            partitionStart[partitions] = offset;
+
+            // Pass 2: scatter indices
+            forEachChunk(chunks, c -> {
+                int[] next = counts[c];
+                int start = from + c * chunk;
+                int end = chunkEnd(start, chunk, to);
+                for (int i = start; i < end; i++) { indices[next[partitionOf(A[i], shift)]++] = i; }
+            });
+
+            // Pass 3: check each partition; a partition stops once its indices pass the best duplicate found
+            AtomicInteger bestSecond = new AtomicInteger(Integer.MAX_VALUE);
+            forEachChunk(partitions, p -> {
+                secondOf[p] = Integer.MAX_VALUE;
+                int start = partitionStart[p], end = partitionStart[p + 1];
+                if (start == end) return;
+                if (maps[p] == null) maps[p] = new IntIntHashMap(end - start);
+                IntIntHashMap firstSeen = maps[p];
+                for (int k = start; k < end; k++) {
+                    int j = indices[k];
+                    if (j > bestSecond.get()) return;
+                    int i = firstSeen.putIfAbsent(A[j], j);
+                    if (i != IntIntHashMap.NO_VALUE) {
+                        firstOf[p] = i;
+                        secondOf[p] = j;
+                        bestSecond.accumulateAndGet(j, Math::min);
+                        return;
+                    }
+                }
+            });
+            int best = bestSecond.get();
+            if (best == Integer.MAX_VALUE) return null;
+            for (int p = 0; p < partitions; p++) {
+                if (secondOf[p] == best) return new UniquenessChecker.Result(false, firstOf[p], best, UniquenessChecker.Strategy.HASH);
+            }
+            throw new IllegalStateException("Duplicate index " + best + " not found in any partition.");
+        }
+    }
+
+    /** Computed in long, since lengths near Integer.MAX_VALUE would overflow the rounding. */
+    private int chunkLength(int length) {
+        long chunks = (long) CHUNKS_PER_WORKER * pool.getParallelism();
+        long chunk = (length + chunks - 1) / chunks;
+        return (int) Math.min(length, (chunk + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT);
+    }
+
+    private static int chunkCount(int length, int chunk) {
+        return (int) (((long) length + chunk - 1) / chunk);
+    }
+
+    /** min(limit, from + chunk) without overflowing. */
+    private static int chunkEnd(int from, int chunk, int limit) {
+        return from + Math.min(limit - from, chunk);
+    }
+
+    /** Runs body(0) .. body(count - 1) on the pool, lower indices forked first. */
+    private void forEachChunk(int count, IntConsumer body) {
+        pool.invoke(new ChunkTask(body, 0, count));
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer body;
+        private final int from, to;
+
+        ChunkTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(body, from, mid), new ChunkTask(body, mid, to));
+        }
+    }
+}
@@ -1,54 +1,190 @@
 package org.example;
 
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class PerformanceAnalyzer {
 
     private static final String CSV_FILE_NAME = "algorithm_performance_data.csv";
+    private static final String THROUGHPUT_CSV_FILE_NAME = "algorithm_throughput_data.csv";
     private static final Random RANDOM = new Random();
 
+    private static MeasurementEngine engine;
+    // Multi-second operations (1,000,000!, 10M-element scans) get fewer repetitions
+    private static MeasurementEngine heavyEngine;
+    private static ResultSink sink;
+
+    /**
+     * Options: --warmup N, --repetitions N (per input size), --json FILE (JSON-lines copy of the results).
+     * With --throughput, runs the concurrent load suite instead (see {@link #runThroughput}), with
+     * --duration-ms N per level, --threads 1,2,4 and --virtual N in-flight virtual-thread tasks.
+     * The tuning profile is loaded first (calibrated if missing); --recalibrate forces a new calibration.
+     */
     public static void main(String[] args) {
-        System.out.println("Starting algorithm performance analysis...");
+        int warmup = MeasurementEngine.DEFAULT_WARMUP_ITERATIONS;
+        int repetitions = MeasurementEngine.DEFAULT_REPETITIONS;
+        Path jsonFile = null;
+        boolean throughput = false;
+        long durationMillis = ThroughputDriver.DEFAULT_DURATION_MILLIS;
+        int[] levels = ThroughputDriver.defaultLevels();
+        int virtualConcurrency = 4 * Runtime.getRuntime().availableProcessors();
+        boolean recalibrate = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    case "--repetitions" -> repetitions = Integer.parseInt(args[++i]);
+                    case "--json" -> jsonFile = Path.of(args[++i]);
+                    case "--throughput" -> throughput = true;
+                    case "--duration-ms" -> durationMillis = Long.parseLong(args[++i]);
+                    case "--threads" -> levels = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                    case "--virtual" -> virtualConcurrency = Integer.parseInt(args[++i]);
+                    case "--recalibrate" -> recalibrate = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            applyTuning(recalibrate);
+            engine = new MeasurementEngine(warmup, repetitions);
+            heavyEngine = new MeasurementEngine(Math.min(warmup, 1), Math.min(repetitions, 5));
+            if (throughput) {
+                runThroughput(new ThroughputDriver(Math.max(1, durationMillis / 5), durationMillis), levels, virtualConcurrency);
+                return;
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: PerformanceAnalyzer [--recalibrate] [--warmup N] [--repetitions N] [--json FILE]");
+            System.err.println("       PerformanceAnalyzer [--recalibrate] --throughput [--duration-ms N] [--threads 1,2,4] [--virtual N]");
+            return;
+        }
 
-        // Clear previous data or create a new file with header
-        try (PrintWriter writer = new PrintWriter(new FileWriter(CSV_FILE_NAME))) {
-            writer.println("Algorithm,InputSize,ExecutionTimeNs"); // Use nanoseconds for precision
-        } catch (IOException e) {
-            System.err.println("Error creating CSV file: " + e.getMessage());
+        System.out.println("Starting algorithm performance analysis (" + warmup + " warmup, "
+                + repetitions + " timed runs per input size)...");
+
+        // One buffered writer for the whole run, flushed when the sink is closed
+        try (ResultSink resultSink = new ResultSink(Path.of(CSV_FILE_NAME), jsonFile)) {
+            sink = resultSink;
+
+            // Run analysis for each algorithm
+            analyzeCountBinaryDigitsRecursive();
+            analyzeCountBinaryDigitsIterative();
+            analyzeFactorial();
+            analyzeBigFactorial();
+            analyzeMatrixMultiplication();
+            analyzeSequentialSearch();
+            analyzeFindMaxElement();
+            analyzeHasUniqueElements();
+            analyzeGaussianElimination();
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error writing results: " + e.getMessage());
             return;
         }
 
-        // Run analysis for each algorithm
-        analyzeCountBinaryDigitsRecursive();
-        analyzeCountBinaryDigitsIterative();
-        analyzeFactorial();
-        analyzeMatrixMultiplication();
-        analyzeSequentialSearch();
-        analyzeFindMaxElement();
-        analyzeHasUniqueElements();
-        analyzeGaussianElimination();
+        System.out.println("Performance analysis complete. Data saved to " + CSV_FILE_NAME
+                + (jsonFile != null ? " and " + jsonFile : ""));
+    }
+
+    /**
+     * Loads or calibrates the machine's tuning profile before anything is measured, and reports it.
+     * A profile that cannot be saved is still used for this run.
+     */
+    private static void applyTuning(boolean recalibrate) {
+        Path file = Autotuner.defaultProfilePath();
+        if (recalibrate) System.out.println("Recalibrating tuning profile...");
+        try {
+            TuningProfile profile = recalibrate ? Autotuner.recalibrate(file) : Autotuner.loadOrCalibrate(file);
+            System.out.println("Tuning profile (" + file + "): " + profile);
+        } catch (IOException e) {
+            System.err.println("Could not save tuning profile to " + file + ": " + e.getMessage());
+            System.out.println("Tuning profile (unsaved): " + Autotuner.profile());
+        }
+    }
+
+    /**
+     * Runs each algorithm under concurrent load at every thread level and in virtual-thread mode,
+     * writing one row per run to {@value #THROUGHPUT_CSV_FILE_NAME}. Inputs are shared read-only
+     * between workers, except gaussianElimination which copies its matrix per operation.
+     */
+    private static void runThroughput(ThroughputDriver driver, int[] levels, int virtualConcurrency) {
+        System.out.println("Starting throughput analysis (levels " + Arrays.toString(levels)
+                + ", virtual concurrency " + virtualConcurrency + ")...");
+        int[] searchArray = generateRandomIntArray(1000000, 10000000);
+        double[] maxArray = generateRandomDoubleArray(1000000, 1000000.0);
+        int[] uniqueArray = generateRandomIntArray(1000000, 2000000);
+        double[][] A = generateRandomDoubleMatrix(256, 100.0);
+        double[][] B = generateRandomDoubleMatrix(256, 100.0);
+        double[][] system = generateRandomDoubleMatrix(256, 100.0);
 
-        System.out.println("Performance analysis complete. Data saved to " + CSV_FILE_NAME);
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(THROUGHPUT_CSV_FILE_NAME), StandardCharsets.UTF_8)) {
+            out.write(ThroughputResult.CSV_HEADER);
+            out.newLine();
+            List<List<ThroughputResult>> runs = List.of(
+                    driver.run("countBinaryDigitsIterative", 1000000000, levels, virtualConcurrency,
+                            () -> 1000000000, Algorithms::countBinaryDigits),
+                    driver.run("bigFactorial", 10000, levels, virtualConcurrency,
+                            () -> 10000, Algorithms::bigFactorial),
+                    driver.run("sequentialSearch", searchArray.length, levels, virtualConcurrency,
+                            () -> searchArray, arr -> Algorithms.sequentialSearch(arr, -1)),
+                    driver.run("findMaxElement", maxArray.length, levels, virtualConcurrency,
+                            () -> maxArray, Algorithms::findMaxElement),
+                    driver.run("hasUniqueElements", uniqueArray.length, levels, virtualConcurrency,
+                            () -> uniqueArray, Algorithms::hasUniqueElements),
+                    driver.run("matrixMultiplication", A.length, levels, virtualConcurrency,
+                            () -> A, a -> Algorithms.multiplyMatrices(a, B)),
+                    driver.run("gaussianElimination", system.length, levels, virtualConcurrency,
+                            () -> copyMatrix(system), Algorithms::gaussianElimination));
+            for (List<ThroughputResult> run : runs) {
+                System.out.println("\n" + run.get(0).algorithm() + " (N=" + run.get(0).inputSize() + "):");
+                for (ThroughputResult r : run) {
+                    out.write(r.toCsvRow());
+                    out.newLine();
+                    System.out.println(String.format(Locale.ROOT, "  %-8s x%-3d %12.1f ops/s  efficiency %.2f  p50=%dns p99=%dns",
+                            r.mode(), r.concurrency(), r.opsPerSecond(), r.scalingEfficiency(), r.p50Ns(), r.p99Ns()));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing results: " + e.getMessage());
+            return;
+        }
+        System.out.println("Throughput analysis complete. Data saved to " + THROUGHPUT_CSV_FILE_NAME);
     }
 
     /**
-     * Helper method to write performance data to the CSV file.
+     * Helper method to time one algorithm at one input size and record the summary.
+     * @param measurementEngine The engine that runs warmups and timed repetitions.
      * @param algorithmName The name of the algorithm being tested.
      * @param inputSize The size of the input for this test.
-     * @param executionTimeNs The execution time in nanoseconds.
+     * @param inputFactory Creates a fresh input for every run (not timed).
+     * @param operation The operation being timed.
      */
-    private static void writeToCsv(String algorithmName, long inputSize, long executionTimeNs) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(CSV_FILE_NAME, true))) { // true for append mode
-            writer.println(algorithmName + "," + inputSize + "," + executionTimeNs);
+    private static <T> void measure(MeasurementEngine measurementEngine, String algorithmName, long inputSize,
+                                    Supplier<T> inputFactory, Function<T, ?> operation) {
+        try {
+            Measurement m = measurementEngine.measure(algorithmName, inputSize, inputFactory, operation);
+            sink.write(m);
+            System.out.println("  N=" + inputSize + ", p50=" + m.p50Ns() + "ns, p99=" + m.p99Ns()
+                    + "ns, max=" + m.maxNs() + "ns, mean=" + Math.round(m.meanNs()) + "ns, cpu=" + Math.round(m.meanCpuNs())
+                    + "ns, alloc=" + Math.round(m.meanAllocatedBytes()) + "B, gc=" + m.gcCount());
+        } catch (IllegalArgumentException e) {
+            System.err.println("  Error for N=" + inputSize + ": " + e.getMessage());
         } catch (IOException e) {
-            System.err.println("Error writing to CSV file for " + algorithmName + ": " + e.getMessage());
+            throw new UncheckedIOException(e);
         }
     }
 
+    private static void measure(MeasurementEngine measurementEngine, String algorithmName, long inputSize, Supplier<?> operation) {
+        measure(measurementEngine, algorithmName, inputSize, () -> null, ignored -> operation.get());
+    }
+
     /**
      * Generates a random integer array.
      * @param size The size of the array.
@@ -93,6 +229,19 @@ public class PerformanceAnalyzer {
         return matrix;
     }
 
+    /**
+     * Deep-copies a matrix, for algorithms that modify their input.
+     * @param matrix The matrix to copy.
+     * @return A copy with freshly allocated rows.
+     */
+    private static double[][] copyMatrix(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+
     // --- Algorithm Specific Analysis Methods ---
 
     private static void analyzeCountBinaryDigitsRecursive() {
@@ -101,16 +250,7 @@ public class PerformanceAnalyzer {
         // Input 'n' for binary digits can go up very high. Use larger steps.
         int[] inputSizes = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
         for (int n : inputSizes) {
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.countBinaryDigitsRecursive(n);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(engine, algoName, n, () -> Algorithms.countBinaryDigitsRecursive(n));
         }
     }
 
@@ -119,56 +259,43 @@ public class PerformanceAnalyzer {
         System.out.println("\nAnalyzing " + algoName + "...");
         int[] inputSizes = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
         for (int n : inputSizes) {
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.countBinaryDigits(n);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(engine, algoName, n, () -> Algorithms.countBinaryDigits(n));
         }
     }
 
     private static void analyzeFactorial() {
         String algoName = "factorial";
         System.out.println("\nAnalyzing " + algoName + "...");
-        // Factorial grows very fast, long can overflow around 20-21!
+        // The long API is a table lookup and throws past 20!; larger N is covered by analyzeBigFactorial
         int[] inputSizes = {0, 5, 10, 15, 20}; // Max safe for long is 20!
         for (int n : inputSizes) {
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.factorial(n);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(engine, algoName, n, () -> Algorithms.factorial(n));
+        }
+    }
+
+    private static void analyzeBigFactorial() {
+        String algoName = "bigFactorial";
+        System.out.println("\nAnalyzing " + algoName + "...");
+        // BigInteger product tree; the result for N=1,000,000 has about 18.5 million bits
+        int[] inputSizes = {10, 100, 1000, 10000, 100000, 1000000};
+        for (int n : inputSizes) {
+            measure(n >= 100000 ? heavyEngine : engine, algoName, n, () -> Algorithms.bigFactorial(n));
         }
     }
 
     private static void analyzeMatrixMultiplication() {
         String algoName = "matrixMultiplication";
-        System.out.println("\nAnalyzing " + algoName + "...");
-        // O(N^3) algorithm, so N should not be too large
-        int[] inputSizes = {5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100}; // N x N matrix
+        String strassenName = "matrixMultiplicationStrassen";
+        System.out.println("\nAnalyzing " + algoName + " and " + strassenName + "...");
+        // O(N^3) algorithm, so N should not be too large.
+        // The larger sizes show where Strassen (O(N^2.81)) starts to beat the classical kernel.
+        int[] inputSizes = {5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 200, 400}; // N x N matrix
         for (int n : inputSizes) {
             double[][] A = generateRandomDoubleMatrix(n, 100.0);
             double[][] B = generateRandomDoubleMatrix(n, 100.0);
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.multiplyMatrices(A, B);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + "x" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            MeasurementEngine e = n >= 400 ? heavyEngine : engine;
+            measure(e, algoName, n, () -> Algorithms.multiplyMatrices(A, B));
+            measure(e, strassenName, n, () -> Algorithms.multiplyMatricesStrassen(A, B, StrassenMultiplier.DEFAULT_CROSSOVER));
         }
     }
 
@@ -180,16 +307,7 @@ public class PerformanceAnalyzer {
         for (int n : inputSizes) {
             int[] arr = generateRandomIntArray(n, 10000000);
             int key = -1; // Choose a key that is unlikely to be in the array (worst case)
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.sequentialSearch(arr, key);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(engine, algoName, n, () -> Algorithms.sequentialSearch(arr, key));
         }
     }
 
@@ -200,36 +318,18 @@ public class PerformanceAnalyzer {
         int[] inputSizes = {1000, 5000, 10000, 50000, 100000, 500000, 1000000};
         for (int n : inputSizes) {
             double[] arr = generateRandomDoubleArray(n, 1000000.0);
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.findMaxElement(arr);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(engine, algoName, n, () -> Algorithms.findMaxElement(arr));
         }
     }
 
     private static void analyzeHasUniqueElements() {
         String algoName = "hasUniqueElements";
         System.out.println("\nAnalyzing " + algoName + "...");
-        // O(N^2) algorithm, so N should not be too large
-        int[] inputSizes = {10, 50, 100, 200, 500, 1000, 2000, 3000}; // N^2 complexity, limit N
+        // O(N) expected (hash/bitset), so sizes can go well past the old all-pairs limit
+        int[] inputSizes = {10, 50, 100, 200, 500, 1000, 2000, 3000, 10000, 100000, 1000000, 10000000};
         for (int n : inputSizes) {
             int[] arr = generateRandomIntArray(n, n * 2); // Ensure some uniqueness but potential duplicates
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.hasUniqueElements(arr);
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + ", Time=" + duration + "ns");
-            } catch (IllegalArgumentException e) {
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            measure(n >= 10000000 ? heavyEngine : engine, algoName, n, () -> Algorithms.hasUniqueElements(arr));
         }
     }
 
@@ -242,22 +342,10 @@ public class PerformanceAnalyzer {
             // For Gaussian Elimination analysis, we typically analyze square matrices or N x (N+1) augmented matrices.
             // Let's use N x N for simpler analysis. The actual method can handle N x M.
             double[][] matrix = generateRandomDoubleMatrix(n, 100.0);
-            // Deep copy the matrix because Gaussian Elimination modifies the input array
-            double[][] matrixCopy = new double[n][];
-            for (int i = 0; i < n; i++) {
-                matrixCopy[i] = matrix[i].clone();
-            }
-
-            try {
-                long startTime = System.nanoTime();
-                Algorithms.gaussianElimination(matrixCopy); // Use the copy
-                long endTime = System.nanoTime();
-                long duration = endTime - startTime;
-                writeToCsv(algoName, n, duration);
-                System.out.println("  N=" + n + "x" + n + ", Time=" + duration + "ns");
-            } catch (Exception e) { // Catch ArithmeticException for zero pivot, and other potential issues
-                System.err.println("  Error for N=" + n + ": " + e.getMessage());
-            }
+            // Eliminate into one reused destination so runs leave the source intact without allocating;
+            // the O(N^2) copy is timed along with the O(N^3) reduction
+            double[][] work = new double[n][n];
+            measure(engine, algoName, n, () -> Algorithms.gaussianEliminationInto(matrix, work));
         }
     }
 }
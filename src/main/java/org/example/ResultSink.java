@@ -0,0 +1,79 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writes {@link Measurement}s through one long-lived buffered writer per output file, flushed only
+ * when the sink is closed. The CSV keeps the Algorithm,InputSize,ExecutionTimeNs leading columns
+ * (ExecutionTimeNs is the median) so existing consumers keep working; the optional JSON file holds
+ * one object per line. CpuNs and AllocatedBytes are per-call means; GcCount and GcTimeMs are totals.
+ */
+public final class ResultSink implements AutoCloseable {
+
+    static final String CSV_HEADER = "Algorithm,InputSize,ExecutionTimeNs,Samples,MinNs,MeanNs,StdDevNs,P50Ns,P90Ns,P99Ns,P999Ns,MaxNs,CpuNs,AllocatedBytes,GcCount,GcTimeMs";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedWriter csv;
+    private final BufferedWriter json;
+
+    /**
+     * @param csvFile The CSV output, truncated on open.
+     * @param jsonFile An optional JSON-lines output, or null.
+     * @throws IOException If a file cannot be opened.
+     */
+    public ResultSink(Path csvFile, Path jsonFile) throws IOException {
+        this.csv = open(csvFile);
+        BufferedWriter jsonWriter = null;
+        try {
+            if (jsonFile != null) jsonWriter = open(jsonFile);
+        } catch (IOException e) {
+            csv.close();
+            throw e;
+        }
+        this.json = jsonWriter;
+        csv.write(CSV_HEADER);
+        csv.newLine();
+    }
+
+    private static BufferedWriter open(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public void write(Measurement m) throws IOException {
+        csv.write(m.algorithm() + "," + m.inputSize() + "," + m.p50Ns() + "," + m.samples() + ","
+                + m.minNs() + "," + format(m.meanNs()) + "," + format(m.stdDevNs()) + ","
+                + m.p50Ns() + "," + m.p90Ns() + "," + m.p99Ns() + "," + m.p999Ns() + "," + m.maxNs() + ","
+                + format(m.meanCpuNs()) + "," + format(m.meanAllocatedBytes()) + "," + m.gcCount() + "," + m.gcTimeMs());
+        csv.newLine();
+        if (json != null) {
+            json.write("{\"algorithm\":\"" + m.algorithm() + "\",\"inputSize\":" + m.inputSize()
+                    + ",\"samples\":" + m.samples() + ",\"minNs\":" + m.minNs()
+                    + ",\"meanNs\":" + format(m.meanNs()) + ",\"stdDevNs\":" + format(m.stdDevNs())
+                    + ",\"p50Ns\":" + m.p50Ns() + ",\"p90Ns\":" + m.p90Ns() + ",\"p99Ns\":" + m.p99Ns()
+                    + ",\"p999Ns\":" + m.p999Ns() + ",\"maxNs\":" + m.maxNs()
+                    + ",\"cpuNs\":" + format(m.meanCpuNs()) + ",\"allocatedBytes\":" + format(m.meanAllocatedBytes())
+                    + ",\"gcCount\":" + m.gcCount() + ",\"gcTimeMs\":" + m.gcTimeMs() + "}");
+            json.newLine();
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            csv.close();
+        } finally {
+            if (json != null) json.close();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example;
+
+/**
+ * A prebuilt lookup structure over an int array that answers
+ * {@link Algorithms#sequentialSearch(int[], int)} queries without rescanning the array.
+ * Build it once with {@link BatchSearch#buildIndex} and keep it for as long as the array is unchanged.
+ */
+public interface SearchIndex {
+
+    /**
+     * @param key The value to look up.
+     * @return The index of the first occurrence of key in the indexed array, or -1.
+     */
+    int indexOf(int key);
+
+    /** Looks up every key; result[i] is indexOf(keys[i]). */
+    default int[] indexOfAll(int[] keys) {
+        if (keys == null) throw new IllegalArgumentException("Keys cannot be null.");
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) { result[i] = indexOf(keys[i]); }
+        return result;
+    }
+
+    /** Number of distinct values in the index. */
+    int distinctValues();
+}
@@ -0,0 +1,18 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * Thrown by {@link ComputeClient} when the server rejected a request because its queues were full.
+ * The request was not executed and can be retried after a back-off.
+ */
+public class ServerBusyException extends IOException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ServerBusyException() {
+        super("Server is busy; request rejected.");
+    }
+}
@@ -0,0 +1,26 @@
+package org.example;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an operation needs a nonsingular matrix but meets a zero pivot.
+ */
+public class SingularMatrixException extends ArithmeticException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int pivotIndex;
+
+    /**
+     * @param pivotIndex The row/column index of the zero pivot, or -1 if unknown.
+     */
+    public SingularMatrixException(int pivotIndex) {
+        super(pivotIndex >= 0 ? "Matrix is singular (zero pivot at row " + pivotIndex + ")." : "Matrix is singular.");
+        this.pivotIndex = pivotIndex;
+    }
+
+    public int getPivotIndex() {
+        return pivotIndex;
+    }
+}
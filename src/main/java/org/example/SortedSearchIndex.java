@@ -0,0 +1,50 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * O(log N) lookups by binary search over the distinct values in sorted order, each paired with
+ * its first index. Costs 8 bytes per distinct value and keeps the values ordered.
+ */
+public final class SortedSearchIndex implements SearchIndex {
+
+    private final int[] values;
+    private final int[] firstIndex;
+
+    public SortedSearchIndex(int[] A) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        // Pack (value, index) into one long so a primitive sort orders by value, then by index
+        long[] packed = new long[A.length];
+        for (int i = 0; i < A.length; i++) {
+            packed[i] = ((long) A[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        int distinct = 0;
+        for (int i = 0; i < packed.length; i++) {
+            if (i == 0 || (int) (packed[i] >> 32) != (int) (packed[i - 1] >> 32)) { distinct++; }
+        }
+        values = new int[distinct];
+        firstIndex = new int[distinct];
+        int d = 0;
+        for (int i = 0; i < packed.length; i++) {
+            int value = (int) (packed[i] >> 32);
+            if (i == 0 || value != values[d - 1]) {
+                values[d] = value;
+                firstIndex[d] = (int) packed[i]; // Smallest index for this value sorts first
+                d++;
+            }
+        }
+    }
+
+    @Override
+    public int indexOf(int key) {
+        int pos = Arrays.binarySearch(values, key);
+        return pos >= 0 ? firstIndex[pos] : -1;
+    }
+
+    @Override
+    public int distinctValues() {
+        return values.length;
+    }
+}
@@ -0,0 +1,318 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * LU factorization with partial pivoting for sparse square matrices, PA = LU.
+ *
+ * Rows and columns are first renumbered with reverse Cuthill-McKee, which gathers the nonzeros of
+ * a sparse matrix into a narrow band around the diagonal. Partial pivoting can only move a row up
+ * by at most kl places, so all fill-in stays within kl subdiagonals and kl + ku superdiagonals and
+ * the factors are held in an N x (2kl + ku + 1) band instead of N x N. Factoring costs
+ * O(N kl (kl + ku)) and each solve O(N (kl + ku)), against O(N^3) and O(N^2) for {@link LUDecomposition}.
+ *
+ * This is a banded solver, not a general sparse one: memory is N (2kl + ku + 1) doubles whatever
+ * the number of nonzeros, so a few entries far from the diagonal that survive the renumbering make
+ * it approach dense cost; {@link #lowerBandwidth()} and {@link #upperBandwidth()} report the band.
+ *
+ * The multipliers are kept in the interleaved LINPACK form: row swaps made after column k do not
+ * move the multipliers of column k, and the forward substitution replays the swaps in order.
+ */
+public final class SparseLU {
+
+    private final int n;
+    private final int lower;
+    private final int upper;
+    private final int width;
+    private final double[] band;
+    private final int[] pivots;
+    private final int[] ordering;
+    private final int firstZeroPivot;
+
+    private SparseLU(int n, int lower, int upper, double[] band, int[] pivots, int[] ordering, int firstZeroPivot) {
+        this.n = n;
+        this.lower = lower;
+        this.upper = upper;
+        this.width = 2 * lower + upper + 1;
+        this.band = band;
+        this.pivots = pivots;
+        this.ordering = ordering;
+        this.firstZeroPivot = firstZeroPivot;
+    }
+
+    /**
+     * Factors a square sparse matrix. A is not modified.
+     * @param A The square coefficient matrix, in either layout.
+     * @return The factorization, reusable for any number of right-hand sides.
+     */
+    public static SparseLU factor(SparseMatrix A) {
+        if (A == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        if (A.rows() != A.cols()) throw new IllegalArgumentException("LU factorization requires a square matrix.");
+        return factor(A, ordering(A));
+    }
+
+    /** Reverse Cuthill-McKee, or the natural order when that is already at least as narrow (a matrix banded as given). */
+    static int[] ordering(SparseMatrix A) {
+        int n = A.rows();
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) { identity[i] = i; }
+        int[] rcm = reverseCuthillMcKee(A);
+        return bandwidth(A, rcm) < bandwidth(A, identity) ? rcm : identity;
+    }
+
+    static SparseLU factor(SparseMatrix A, int[] ordering) {
+        SparseMatrix a = A.toCsr();
+        int n = a.rows();
+        int[] position = inverse(ordering);
+        int[] p = a.pointers(), idx = a.indices();
+        double[] val = a.values();
+
+        int kl = 0, ku = 0;
+        for (int i = 0; i < n; i++) {
+            for (int k = p[ordering[i]]; k < p[ordering[i] + 1]; k++) {
+                int c = position[idx[k]];
+                kl = Math.max(kl, i - c);
+                ku = Math.max(ku, c - i);
+            }
+        }
+        int w = 2 * kl + ku + 1;
+        double[] b = new double[Math.multiplyExact(n, w)];
+        for (int i = 0; i < n; i++) {
+            int row = i * w - i + kl;
+            for (int k = p[ordering[i]]; k < p[ordering[i] + 1]; k++) { b[row + position[idx[k]]] = val[k]; }
+        }
+
+        int[] pivots = new int[n];
+        int firstZeroPivot = -1;
+        for (int j = 0; j < n; j++) {
+            int lastRow = Math.min(n - 1, j + kl);
+            int lastCol = Math.min(n - 1, j + kl + ku);
+            int maxRow = j;
+            double max = Math.abs(b[j * w + kl]);
+            for (int i = j + 1; i <= lastRow; i++) {
+                double v = Math.abs(b[i * w - i + kl + j]);
+                if (v > max) { max = v; maxRow = i; }
+            }
+            pivots[j] = maxRow;
+            if (maxRow != j) {
+                int rj = j * w - j + kl, rm = maxRow * w - maxRow + kl;
+                for (int c = j; c <= lastCol; c++) {
+                    double t = b[rj + c];
+                    b[rj + c] = b[rm + c];
+                    b[rm + c] = t;
+                }
+            }
+            int rj = j * w - j + kl;
+            double pivot = b[rj + j];
+            if (pivot == 0.0) {
+                if (firstZeroPivot < 0) firstZeroPivot = j;
+                continue; // Nothing to eliminate in this column
+            }
+            for (int i = j + 1; i <= lastRow; i++) {
+                int ri = i * w - i + kl;
+                double l = b[ri + j] / pivot;
+                b[ri + j] = l;
+                if (l == 0.0) continue;
+                for (int c = j + 1; c <= lastCol; c++) { b[ri + c] -= l * b[rj + c]; }
+            }
+        }
+        return new SparseLU(n, kl, ku, b, pivots, ordering, firstZeroPivot);
+    }
+
+    /**
+     * Reverse Cuthill-McKee ordering of the symmetrized pattern of A (the graph with an edge i-j
+     * whenever a(i, j) or a(j, i) is nonzero). Each connected component is numbered breadth first
+     * from a pseudo-peripheral node, visiting neighbours by increasing degree, and the whole
+     * sequence is then reversed.
+     * @return ordering[newIndex] = original index.
+     */
+    public static int[] reverseCuthillMcKee(SparseMatrix A) {
+        if (A == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        if (A.rows() != A.cols()) throw new IllegalArgumentException("Ordering requires a square matrix.");
+        int n = A.rows();
+        SparseMatrix csr = A.toCsr(), csc = A.toCsc();
+
+        // Adjacency lists of A + A^T without the diagonal
+        int[] adjPointers = new int[n + 1];
+        int[] adj = new int[2 * A.nonZeros()];
+        int[] marker = new int[n];
+        Arrays.fill(marker, -1);
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            marker[v] = v;
+            for (SparseMatrix m : new SparseMatrix[] {csr, csc}) {
+                for (int k = m.pointers()[v]; k < m.pointers()[v + 1]; k++) {
+                    int u = m.indices()[k];
+                    if (marker[u] != v) {
+                        marker[u] = v;
+                        adj[count++] = u;
+                    }
+                }
+            }
+            adjPointers[v + 1] = count;
+        }
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) { degree[v] = adjPointers[v + 1] - adjPointers[v]; }
+
+        // Nodes by increasing degree (counting sort), to seed each component from a low-degree node
+        int[] byDegree = new int[n];
+        int[] bucket = new int[n + 1];
+        for (int v = 0; v < n; v++) { bucket[degree[v]]++; }
+        for (int d = 0, sum = 0; d <= n; d++) { int c = bucket[d]; bucket[d] = sum; sum += c; }
+        for (int v = 0; v < n; v++) { byDegree[bucket[degree[v]]++] = v; }
+
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] level = new int[n];
+        int[] queue = new int[n];
+        int placed = 0;
+        int seed = 0;
+        while (placed < n) {
+            while (visited[byDegree[seed]]) { seed++; }
+            int start = pseudoPeripheral(byDegree[seed], adjPointers, adj, degree, level, queue);
+
+            visited[start] = true;
+            order[placed] = start;
+            int head = placed++;
+            while (head < placed) {
+                int v = order[head++];
+                int first = placed;
+                for (int k = adjPointers[v]; k < adjPointers[v + 1]; k++) {
+                    int u = adj[k];
+                    if (!visited[u]) {
+                        visited[u] = true;
+                        order[placed++] = u;
+                    }
+                }
+                sortByDegree(order, first, placed, degree);
+            }
+        }
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = order[i]; order[i] = order[j]; order[j] = t;
+        }
+        return order;
+    }
+
+    /**
+     * George-Liu search: repeatedly moves to a minimum-degree node of the last breadth-first level
+     * until the number of levels stops growing.
+     */
+    private static int pseudoPeripheral(int start, int[] adjPointers, int[] adj, int[] degree, int[] level, int[] queue) {
+        int node = start;
+        int depth = -1;
+        while (true) {
+            // Breadth-first levels from node; level[] is reset only for the nodes reached
+            queue[0] = node;
+            level[node] = 1;
+            int tail = 1;
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                for (int k = adjPointers[v]; k < adjPointers[v + 1]; k++) {
+                    int u = adj[k];
+                    if (level[u] == 0) {
+                        level[u] = level[v] + 1;
+                        queue[tail++] = u;
+                    }
+                }
+            }
+            int eccentricity = level[queue[tail - 1]];
+            int candidate = queue[tail - 1];
+            for (int t = tail - 1; t >= 0 && level[queue[t]] == eccentricity; t--) {
+                if (degree[queue[t]] < degree[candidate]) candidate = queue[t];
+            }
+            for (int t = 0; t < tail; t++) { level[queue[t]] = 0; }
+            if (eccentricity <= depth) return node;
+            depth = eccentricity;
+            node = candidate;
+        }
+    }
+
+    /** Insertion sort of order[from, to) by degree; neighbour lists are short in sparse graphs. */
+    private static void sortByDegree(int[] order, int from, int to, int[] degree) {
+        for (int i = from + 1; i < to; i++) {
+            int v = order[i];
+            int j = i - 1;
+            while (j >= from && degree[order[j]] > degree[v]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = v;
+        }
+    }
+
+    /** The half-bandwidth max |i - j| over nonzeros after renumbering with ordering. */
+    static int bandwidth(SparseMatrix A, int[] ordering) {
+        SparseMatrix a = A.toCsr();
+        int[] position = inverse(ordering);
+        int[] p = a.pointers(), idx = a.indices();
+        int bandwidth = 0;
+        for (int i = 0; i < a.rows(); i++) {
+            for (int k = p[i]; k < p[i + 1]; k++) {
+                bandwidth = Math.max(bandwidth, Math.abs(position[i] - position[idx[k]]));
+            }
+        }
+        return bandwidth;
+    }
+
+    private static int[] inverse(int[] ordering) {
+        int[] position = new int[ordering.length];
+        for (int i = 0; i < ordering.length; i++) { position[ordering[i]] = i; }
+        return position;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** Subdiagonals of the renumbered matrix. */
+    public int lowerBandwidth() {
+        return lower;
+    }
+
+    /** Superdiagonals of the renumbered matrix; U may use up to lower + upper after pivoting. */
+    public int upperBandwidth() {
+        return upper;
+    }
+
+    /** The fill-reducing renumbering: row and column i of the factored matrix are ordering()[i] of A. */
+    public int[] ordering() {
+        return ordering.clone();
+    }
+
+    /** True when a zero pivot was met; such a factorization cannot be used to solve. */
+    public boolean isSingular() {
+        return firstZeroPivot >= 0;
+    }
+
+    /**
+     * Solves Ax = b by banded forward and back substitution in O(N (kl + ku)).
+     * @param b The right-hand side, of length N; not modified.
+     * @return The solution x.
+     */
+    public double[] solve(double[] b) {
+        if (b == null || b.length != n) throw new IllegalArgumentException("Right-hand side must have length " + n + ".");
+        if (firstZeroPivot >= 0) throw new SingularMatrixException(firstZeroPivot);
+        int w = width, kl = lower;
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) { y[i] = b[ordering[i]]; }
+        for (int j = 0; j < n; j++) {
+            int r = pivots[j];
+            if (r != j) { double t = y[j]; y[j] = y[r]; y[r] = t; }
+            double yj = y[j];
+            if (yj == 0.0) continue;
+            int lastRow = Math.min(n - 1, j + kl);
+            for (int i = j + 1; i <= lastRow; i++) { y[i] -= band[i * w - i + kl + j] * yj; }
+        }
+        int reach = kl + upper;
+        for (int i = n - 1; i >= 0; i--) {
+            int row = i * w - i + kl;
+            int lastCol = Math.min(n - 1, i + reach);
+            double sum = y[i];
+            for (int c = i + 1; c <= lastCol; c++) { sum -= band[row + c] * y[c]; }
+            y[i] = sum / band[row + i];
+        }
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) { x[ordering[i]] = y[i]; }
+        return x;
+    }
+}
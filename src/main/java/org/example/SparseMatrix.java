@@ -0,0 +1,327 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed sparse matrix in CSR (compressed sparse row) or CSC (compressed sparse column)
+ * layout. Only nonzeros are stored: for CSR, the entries of row i are values[pointers[i] ..
+ * pointers[i + 1]) with their columns in indices, sorted ascending; CSC is the same with rows and
+ * columns exchanged. Memory is O(nonzeros + rows) instead of O(rows * cols).
+ *
+ * Products accumulate every output element in ascending order of the inner index, exactly like the
+ * dense kernels, so a sparse product equals the dense one bit for bit whenever the dense operands
+ * are finite (the skipped terms are all +0 or -0 and cannot change a sum).
+ */
+public final class SparseMatrix {
+
+    public enum Layout { CSR, CSC }
+
+    /** multiplyMatrices and solveLinearSystem consider the sparse path below this fraction of nonzeros. */
+    public static final double ROUTING_DENSITY = 0.05;
+    /** ... and only for matrices at least this large, where the dense kernels' constant factors stop winning. */
+    public static final int ROUTING_MIN_SIZE = 64;
+
+    private final Layout layout;
+    private final int rows;
+    private final int cols;
+    private final int[] pointers;
+    private final int[] indices;
+    private final double[] values;
+
+    private SparseMatrix(Layout layout, int rows, int cols, int[] pointers, int[] indices, double[] values) {
+        this.layout = layout;
+        this.rows = rows;
+        this.cols = cols;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    public static SparseMatrix fromDense(double[][] A) {
+        return fromDense(A, Layout.CSR);
+    }
+
+    /**
+     * Compresses a dense matrix, dropping its zeros (both +0.0 and -0.0).
+     * @param A A rectangular matrix.
+     * @param layout CSR or CSC.
+     */
+    public static SparseMatrix fromDense(double[][] A, Layout layout) {
+        if (A == null || A.length == 0 || A[0] == null || A[0].length == 0) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (layout == null) throw new IllegalArgumentException("Layout cannot be null.");
+        int rows = A.length, cols = A[0].length;
+        int nnz = 0;
+        for (double[] row : A) {
+            if (row == null || row.length != cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+            for (double v : row) { if (v != 0.0) nnz++; }
+        }
+        int[] indices = new int[nnz];
+        double[] values = new double[nnz];
+        int[] pointers;
+        if (layout == Layout.CSR) {
+            pointers = new int[rows + 1];
+            int k = 0;
+            for (int i = 0; i < rows; i++) {
+                double[] row = A[i];
+                for (int j = 0; j < cols; j++) {
+                    if (row[j] != 0.0) {
+                        indices[k] = j;
+                        values[k++] = row[j];
+                    }
+                }
+                pointers[i + 1] = k;
+            }
+        } else {
+            pointers = new int[cols + 1];
+            for (double[] row : A) {
+                for (int j = 0; j < cols; j++) { if (row[j] != 0.0) pointers[j + 1]++; }
+            }
+            for (int j = 0; j < cols; j++) { pointers[j + 1] += pointers[j]; }
+            int[] next = Arrays.copyOf(pointers, cols);
+            for (int i = 0; i < rows; i++) { // Ascending i keeps each column's rows sorted
+                for (int j = 0; j < cols; j++) {
+                    if (A[i][j] != 0.0) {
+                        int k = next[j]++;
+                        indices[k] = i;
+                        values[k] = A[i][j];
+                    }
+                }
+            }
+        }
+        return new SparseMatrix(layout, rows, cols, pointers, indices, values);
+    }
+
+    /**
+     * Builds a CSR matrix from coordinate triplets without materializing a dense matrix;
+     * duplicate coordinates are summed in input order. Runs in O(entries + rows + cols).
+     * @param rowIndex Row of each entry.
+     * @param colIndex Column of each entry.
+     * @param value Value of each entry.
+     */
+    public static SparseMatrix fromTriplets(int rows, int cols, int[] rowIndex, int[] colIndex, double[] value) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if (rowIndex == null || colIndex == null || value == null
+                || rowIndex.length != colIndex.length || rowIndex.length != value.length) {
+            throw new IllegalArgumentException("Triplet arrays must be non-null and of equal length.");
+        }
+        int n = rowIndex.length;
+        // Two stable counting sorts, by column and then by row, order the entries by (row, column)
+        // while keeping duplicates in input order
+        int[] colStart = new int[cols + 1];
+        for (int t = 0; t < n; t++) {
+            int i = rowIndex[t], j = colIndex[t];
+            if (i < 0 || i >= rows || j < 0 || j >= cols) {
+                throw new IllegalArgumentException("Entry (" + i + ", " + j + ") is outside a " + rows + "x" + cols + " matrix.");
+            }
+            colStart[j + 1]++;
+        }
+        for (int j = 0; j < cols; j++) { colStart[j + 1] += colStart[j]; }
+        int[] byColumn = new int[n];
+        for (int t = 0; t < n; t++) { byColumn[colStart[colIndex[t]]++] = t; }
+        int[] rowStart = new int[rows + 1];
+        for (int t = 0; t < n; t++) { rowStart[rowIndex[t] + 1]++; }
+        for (int i = 0; i < rows; i++) { rowStart[i + 1] += rowStart[i]; }
+        int[] order = new int[n];
+        for (int t : byColumn) { order[rowStart[rowIndex[t]]++] = t; }
+
+        int[] pointers = new int[rows + 1];
+        int[] indices = new int[n];
+        double[] values = new double[n];
+        int k = -1;
+        int previousRow = -1, previousCol = -1;
+        for (int t : order) {
+            int i = rowIndex[t], j = colIndex[t];
+            if (i != previousRow || j != previousCol) {
+                k++;
+                indices[k] = j;
+                values[k] = value[t];
+                pointers[i + 1]++;
+                previousRow = i;
+                previousCol = j;
+            } else {
+                values[k] += value[t];
+            }
+        }
+        for (int i = 0; i < rows; i++) { pointers[i + 1] += pointers[i]; }
+        return new SparseMatrix(Layout.CSR, rows, cols, pointers, Arrays.copyOf(indices, k + 1), Arrays.copyOf(values, k + 1));
+    }
+
+    public Layout layout() { return layout; }
+
+    public int rows() { return rows; }
+
+    public int cols() { return cols; }
+
+    public int nonZeros() { return values.length; }
+
+    /** Fraction of stored entries, nonZeros / (rows * cols). */
+    public double density() {
+        return (double) values.length / ((double) rows * cols);
+    }
+
+    int[] pointers() { return pointers; }
+
+    int[] indices() { return indices; }
+
+    double[] values() { return values; }
+
+    public double get(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= cols) throw new IllegalArgumentException("Index out of bounds.");
+        int major = layout == Layout.CSR ? i : j;
+        int minor = layout == Layout.CSR ? j : i;
+        int k = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return k >= 0 ? values[k] : 0.0;
+    }
+
+    public double[][] toDense() {
+        double[][] A = new double[rows][cols];
+        int major = layout == Layout.CSR ? rows : cols;
+        for (int m = 0; m < major; m++) {
+            for (int k = pointers[m]; k < pointers[m + 1]; k++) {
+                if (layout == Layout.CSR) A[m][indices[k]] = values[k]; else A[indices[k]][m] = values[k];
+            }
+        }
+        return A;
+    }
+
+    public SparseMatrix toCsr() {
+        return layout == Layout.CSR ? this : transposeLayout(Layout.CSR);
+    }
+
+    public SparseMatrix toCsc() {
+        return layout == Layout.CSC ? this : transposeLayout(Layout.CSC);
+    }
+
+    /** Switches between CSR and CSC in O(nonzeros) with a counting sort; the minor indices stay sorted. */
+    private SparseMatrix transposeLayout(Layout target) {
+        int major = layout == Layout.CSR ? rows : cols;
+        int minor = layout == Layout.CSR ? cols : rows;
+        int[] p = new int[minor + 1];
+        for (int idx : indices) { p[idx + 1]++; }
+        for (int m = 0; m < minor; m++) { p[m + 1] += p[m]; }
+        int[] next = Arrays.copyOf(p, minor);
+        int[] idx = new int[indices.length];
+        double[] val = new double[values.length];
+        for (int m = 0; m < major; m++) {
+            for (int k = pointers[m]; k < pointers[m + 1]; k++) {
+                int dst = next[indices[k]]++;
+                idx[dst] = m;
+                val[dst] = values[k];
+            }
+        }
+        return new SparseMatrix(target, rows, cols, p, idx, val);
+    }
+
+    /** Sparse matrix-vector product in O(nonzeros). */
+    public double[] multiply(double[] x) {
+        if (x == null || x.length != cols) throw new IllegalArgumentException("Vector must have length " + cols + ".");
+        SparseMatrix a = toCsr();
+        double[] y = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            double sum = 0.0;
+            for (int k = a.pointers[i]; k < a.pointers[i + 1]; k++) { sum += a.values[k] * x[a.indices[k]]; }
+            y[i] = sum;
+        }
+        return y;
+    }
+
+    /**
+     * Sparse x dense product: each stored a(i, k) adds a(i, k) * B[k] to row i of the result,
+     * so the work is O(nonzeros * B.cols) instead of O(rows * cols * B.cols).
+     */
+    public double[][] multiply(double[][] B) {
+        if (B == null || B.length != cols || B[0] == null) {
+            throw new IllegalArgumentException("Matrices are not compatible for multiplication (A.cols == B.rows).");
+        }
+        int m = B[0].length;
+        for (double[] row : B) {
+            if (row == null || row.length != m) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+        }
+        SparseMatrix a = toCsr();
+        double[][] C = new double[rows][m];
+        for (int i = 0; i < rows; i++) {
+            double[] ci = C[i];
+            for (int k = a.pointers[i]; k < a.pointers[i + 1]; k++) {
+                double aik = a.values[k];
+                double[] bk = B[a.indices[k]];
+                for (int j = 0; j < m; j++) { ci[j] += aik * bk[j]; }
+            }
+        }
+        return C;
+    }
+
+    /**
+     * Sparse x sparse product by Gustavson's row-wise algorithm: row i of C is the sum of the rows
+     * of B selected by the nonzeros of row i of A, gathered in a dense accumulator with a marker
+     * array. Work is proportional to the number of multiply-adds actually needed. Returns CSR.
+     */
+    public SparseMatrix multiply(SparseMatrix B) {
+        if (B == null || B.rows != cols) throw new IllegalArgumentException("Matrices are not compatible for multiplication (A.cols == B.rows).");
+        SparseMatrix a = toCsr();
+        SparseMatrix b = B.toCsr();
+        int m = b.cols;
+        double[] accumulator = new double[m];
+        int[] marker = new int[m];
+        Arrays.fill(marker, -1);
+        int[] rowCols = new int[m];
+        int[] p = new int[rows + 1];
+        int[] idx = new int[Math.max(16, a.nonZeros() + b.nonZeros())];
+        double[] val = new double[idx.length];
+        int nnz = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int ka = a.pointers[i]; ka < a.pointers[i + 1]; ka++) {
+                double aik = a.values[ka];
+                int k = a.indices[ka];
+                for (int kb = b.pointers[k]; kb < b.pointers[k + 1]; kb++) {
+                    int j = b.indices[kb];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        accumulator[j] = 0.0; // Start from +0.0 like the dense kernel
+                        rowCols[count++] = j;
+                    }
+                    accumulator[j] += aik * b.values[kb];
+                }
+            }
+            Arrays.sort(rowCols, 0, count);
+            if (nnz + count > idx.length) {
+                int capacity = Math.max(nnz + count, idx.length * 2);
+                idx = Arrays.copyOf(idx, capacity);
+                val = Arrays.copyOf(val, capacity);
+            }
+            for (int c = 0; c < count; c++) {
+                idx[nnz] = rowCols[c];
+                val[nnz++] = accumulator[rowCols[c]];
+            }
+            p[i + 1] = nnz;
+        }
+        return new SparseMatrix(Layout.CSR, rows, m, p, Arrays.copyOf(idx, nnz), Arrays.copyOf(val, nnz));
+    }
+
+    /**
+     * True when A is at least ROUTING_MIN_SIZE on both sides and its fraction of nonzeros is below
+     * ROUTING_DENSITY. Stops scanning as soon as the limit is exceeded, so dense inputs are rejected
+     * after reading only a small prefix.
+     */
+    static boolean isSparseCandidate(double[][] A) {
+        if (A.length < ROUTING_MIN_SIZE || A[0].length < ROUTING_MIN_SIZE) return false;
+        long limit = (long) (ROUTING_DENSITY * A.length * (double) A[0].length);
+        long nnz = 0;
+        for (double[] row : A) {
+            for (double v : row) {
+                if (v != 0.0 && ++nnz >= limit) return false;
+            }
+        }
+        return true;
+    }
+
+    /** True when every element is finite, the condition under which skipping zero terms is exact. */
+    static boolean allFinite(double[][] A) {
+        for (double[] row : A) {
+            for (double v : row) { if (!Double.isFinite(v)) return false; }
+        }
+        return true;
+    }
+}
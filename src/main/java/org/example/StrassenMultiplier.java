@@ -0,0 +1,190 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Strassen matrix multiplication for square matrices.
+ *
+ * Each level splits the operands into quadrants and forms seven half-size products instead of
+ * eight. Recursion stops once the block edge drops to the crossover size, where the blocked
+ * classical kernel takes over. Sizes that do not halve evenly are zero-padded once up front to
+ * leafSize * 2^levels. All scratch space (three half-size buffers per level plus the leaf
+ * buffers) is allocated once per multiplication and reused by every call at that level.
+ */
+public final class StrassenMultiplier {
+
+    public static final int DEFAULT_CROSSOVER = 128;
+
+    private final int crossover;
+    private final MatrixMultiplier leafKernel;
+
+    /**
+     * @param crossover Block edge at or below which the classical kernel is used.
+     */
+    public StrassenMultiplier(int crossover) {
+        if (crossover <= 0) throw new IllegalArgumentException("Crossover size must be positive.");
+        this.crossover = crossover;
+        this.leafKernel = MatrixMultiplier.defaultMultiplier();
+    }
+
+    public StrassenMultiplier() {
+        this(DEFAULT_CROSSOVER);
+    }
+
+    public int crossover() {
+        return crossover;
+    }
+
+    /**
+     * Multiplies two square matrices of the same dimension.
+     * @return A new n x n matrix holding A * B.
+     */
+    public Matrix multiply(Matrix A, Matrix B) {
+        int n = A.rows();
+        if (A.cols() != n || B.rows() != n || B.cols() != n) {
+            throw new IllegalArgumentException("Matrices must be square and of the same dimension.");
+        }
+        if (n <= crossover) {
+            return leafKernel.multiply(A, B);
+        }
+
+        int leaf = n;
+        int levels = 0;
+        while (leaf > crossover) {
+            leaf = (leaf + 1) / 2;
+            levels++;
+        }
+        int size = leaf << levels;
+
+        double[] a = pad(A.data(), n, size);
+        double[] b = pad(B.data(), n, size);
+        double[] c = new double[size * size];
+        new Run(levels, leaf, size).multiply(0, a, 0, size, b, 0, size, c, 0, size, size);
+
+        Matrix C = new Matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(c, i * size, C.data(), i * n, n);
+        }
+        return C;
+    }
+
+    private static double[] pad(double[] src, int n, int size) {
+        if (n == size) return src;
+        double[] dst = new double[size * size];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(src, i * n, dst, i * size, n);
+        }
+        return dst;
+    }
+
+    /** Scratch buffers for one multiplication, indexed by recursion level. */
+    private final class Run {
+        private final int levels;
+        private final double[][] t1, t2, p;
+        private final double[] leafA, leafB, leafC;
+
+        Run(int levels, int leaf, int size) {
+            this.levels = levels;
+            t1 = new double[levels][];
+            t2 = new double[levels][];
+            p = new double[levels][];
+            int h = size;
+            for (int level = 0; level < levels; level++) {
+                h /= 2;
+                t1[level] = new double[h * h];
+                t2[level] = new double[h * h];
+                p[level] = new double[h * h];
+            }
+            leafA = new double[leaf * leaf];
+            leafB = new double[leaf * leaf];
+            leafC = new double[leaf * leaf];
+        }
+
+        /** Overwrites the s x s block of c with the product of the s x s blocks of a and b. */
+        void multiply(int level, double[] a, int ao, int as, double[] b, int bo, int bs,
+                      double[] c, int co, int cs, int s) {
+            if (level == levels) {
+                multiplyLeaf(a, ao, as, b, bo, bs, c, co, cs, s);
+                return;
+            }
+            int h = s / 2;
+            double[] x = t1[level], y = t2[level], m = p[level];
+            int a11 = ao, a12 = ao + h, a21 = ao + h * as, a22 = a21 + h;
+            int b11 = bo, b12 = bo + h, b21 = bo + h * bs, b22 = b21 + h;
+            int c11 = co, c12 = co + h, c21 = co + h * cs, c22 = c21 + h;
+
+            // M1 = (A11 + A22)(B11 + B22)
+            combine(a, a11, as, a, a22, as, 1.0, x, h);
+            combine(b, b11, bs, b, b22, bs, 1.0, y, h);
+            multiply(level + 1, x, 0, h, y, 0, h, m, 0, h, h);
+            store(m, c, c11, cs, h);
+            store(m, c, c22, cs, h);
+            // M2 = (A21 + A22) B11
+            combine(a, a21, as, a, a22, as, 1.0, x, h);
+            multiply(level + 1, x, 0, h, b, b11, bs, m, 0, h, h);
+            store(m, c, c21, cs, h);
+            accumulate(m, -1.0, c, c22, cs, h);
+            // M3 = A11 (B12 - B22)
+            combine(b, b12, bs, b, b22, bs, -1.0, y, h);
+            multiply(level + 1, a, a11, as, y, 0, h, m, 0, h, h);
+            store(m, c, c12, cs, h);
+            accumulate(m, 1.0, c, c22, cs, h);
+            // M4 = A22 (B21 - B11)
+            combine(b, b21, bs, b, b11, bs, -1.0, y, h);
+            multiply(level + 1, a, a22, as, y, 0, h, m, 0, h, h);
+            accumulate(m, 1.0, c, c11, cs, h);
+            accumulate(m, 1.0, c, c21, cs, h);
+            // M5 = (A11 + A12) B22
+            combine(a, a11, as, a, a12, as, 1.0, x, h);
+            multiply(level + 1, x, 0, h, b, b22, bs, m, 0, h, h);
+            accumulate(m, -1.0, c, c11, cs, h);
+            accumulate(m, 1.0, c, c12, cs, h);
+            // M6 = (A21 - A11)(B11 + B12)
+            combine(a, a21, as, a, a11, as, -1.0, x, h);
+            combine(b, b11, bs, b, b12, bs, 1.0, y, h);
+            multiply(level + 1, x, 0, h, y, 0, h, m, 0, h, h);
+            accumulate(m, 1.0, c, c22, cs, h);
+            // M7 = (A12 - A22)(B21 + B22)
+            combine(a, a12, as, a, a22, as, -1.0, x, h);
+            combine(b, b21, bs, b, b22, bs, 1.0, y, h);
+            multiply(level + 1, x, 0, h, y, 0, h, m, 0, h, h);
+            accumulate(m, 1.0, c, c11, cs, h);
+        }
+
+        /** Packs the leaf operands into contiguous buffers and runs the classical kernel. */
+        private void multiplyLeaf(double[] a, int ao, int as, double[] b, int bo, int bs,
+                                  double[] c, int co, int cs, int s) {
+            for (int i = 0; i < s; i++) {
+                System.arraycopy(a, ao + i * as, leafA, i * s, s);
+                System.arraycopy(b, bo + i * bs, leafB, i * s, s);
+            }
+            Arrays.fill(leafC, 0, s * s, 0.0);
+            leafKernel.multiplyBlock(leafA, leafB, leafC, s, s, s, 0, s, 0, s);
+            for (int i = 0; i < s; i++) {
+                System.arraycopy(leafC, i * s, c, co + i * cs, s);
+            }
+        }
+    }
+
+    /** dst = x + sign * y, where dst is a contiguous h x h buffer. */
+    private static void combine(double[] x, int xo, int xs, double[] y, int yo, int ys,
+                                double sign, double[] dst, int h) {
+        for (int i = 0; i < h; i++) {
+            int xi = xo + i * xs, yi = yo + i * ys, di = i * h;
+            for (int j = 0; j < h; j++) { dst[di + j] = x[xi + j] + sign * y[yi + j]; }
+        }
+    }
+
+    private static void store(double[] src, double[] c, int co, int cs, int h) {
+        for (int i = 0; i < h; i++) {
+            System.arraycopy(src, i * h, c, co + i * cs, h);
+        }
+    }
+
+    private static void accumulate(double[] src, double sign, double[] c, int co, int cs, int h) {
+        for (int i = 0; i < h; i++) {
+            int si = i * h, ci = co + i * cs;
+            for (int j = 0; j < h; j++) { c[ci + j] += sign * src[si + j]; }
+        }
+    }
+}
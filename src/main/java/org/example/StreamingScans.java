@@ -0,0 +1,232 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming counterparts of {@link Algorithms#findMaxElement(double[])} and
+ * {@link Algorithms#sequentialSearch(int[], int)} for data that is never fully materialized.
+ *
+ * The accumulators keep O(1) state and can be fed chunk by chunk as data arrives. Channel and file
+ * sources are read through one reusable direct buffer, so scanning a file larger than the heap
+ * needs only CHUNK_BYTES of buffer space. Binary sources hold raw elements with no header,
+ * little-endian unless another byte order is given. Indices are longs because such sources can
+ * exceed Integer.MAX_VALUE elements.
+ */
+public final class StreamingScans {
+
+    /** Size of the direct read buffer used for channels and files. */
+    public static final int CHUNK_BYTES = 1 << 16;
+
+    private StreamingScans() {
+    }
+
+    /**
+     * Running maximum with the same semantics as findMaxElement: the first value seeds the
+     * maximum and later values replace it only when strictly greater (so NaN is skipped unless
+     * it is the first value).
+     */
+    public static final class MaxAccumulator {
+        private boolean seeded;
+        private double max;
+        private long count;
+
+        public void accept(double value) {
+            if (!seeded) {
+                max = value;
+                seeded = true;
+            } else if (value > max) {
+                max = value;
+            }
+            count++;
+        }
+
+        public void accept(double[] chunk, int offset, int length) {
+            if (length <= 0) return;
+            int i = offset;
+            int end = offset + length;
+            if (!seeded) {
+                max = chunk[i++];
+                seeded = true;
+            }
+            double m = max;
+            for (; i < end; i++) {
+                if (chunk[i] > m) { m = chunk[i]; }
+            }
+            max = m;
+            count += length;
+        }
+
+        /** Consumes the buffer's remaining elements. */
+        public void accept(DoubleBuffer chunk) {
+            while (chunk.hasRemaining()) { accept(chunk.get()); }
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        /** @throws IllegalArgumentException If nothing has been accepted. */
+        public double max() {
+            if (!seeded) throw new IllegalArgumentException("Empty list.");
+            return max;
+        }
+    }
+
+    /**
+     * Incremental first-occurrence search. Tracks the absolute offset of the next element and
+     * stops consuming once the key has been seen.
+     */
+    public static final class SearchCursor {
+        private final int key;
+        private long offset;
+        private long foundAt = -1;
+
+        public SearchCursor(int key) {
+            this.key = key;
+        }
+
+        /** @return The absolute index of the first match so far, or -1. */
+        public long accept(int value) {
+            if (foundAt < 0) {
+                if (value == key) { foundAt = offset; }
+                offset++;
+            }
+            return foundAt;
+        }
+
+        /** @return The absolute index of the first match so far, or -1. */
+        public long accept(int[] chunk, int off, int length) {
+            if (foundAt >= 0) return foundAt;
+            for (int i = off; i < off + length; i++) {
+                if (chunk[i] == key) {
+                    foundAt = offset + (i - off);
+                    offset += i - off + 1;
+                    return foundAt;
+                }
+            }
+            offset += length;
+            return -1;
+        }
+
+        /** Consumes the buffer up to and including the first match. */
+        public long accept(IntBuffer chunk) {
+            while (foundAt < 0 && chunk.hasRemaining()) { accept(chunk.get()); }
+            return foundAt;
+        }
+
+        public boolean isFound() {
+            return foundAt >= 0;
+        }
+
+        public long foundAt() {
+            return foundAt;
+        }
+
+        /** Number of elements consumed so far. */
+        public long offset() {
+            return offset;
+        }
+    }
+
+    public static double findMaxElement(DoubleStream values) {
+        MaxAccumulator acc = new MaxAccumulator();
+        PrimitiveIterator.OfDouble it = values.sequential().iterator();
+        while (it.hasNext()) { acc.accept(it.nextDouble()); }
+        return acc.max();
+    }
+
+    /** Stops pulling from the stream at the first match, so infinite streams terminate when the key occurs. */
+    public static long sequentialSearch(IntStream values, int key) {
+        SearchCursor cursor = new SearchCursor(key);
+        PrimitiveIterator.OfInt it = values.sequential().iterator();
+        while (!cursor.isFound() && it.hasNext()) { cursor.accept(it.nextInt()); }
+        return cursor.foundAt();
+    }
+
+    public static double findMaxElement(ReadableByteChannel channel) throws IOException {
+        return findMaxElement(channel, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static double findMaxElement(ReadableByteChannel channel, ByteOrder order) throws IOException {
+        MaxAccumulator acc = new MaxAccumulator();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(order);
+        while (fill(channel, buffer)) {
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            acc.accept(doubles);
+            buffer.position(buffer.position() + doubles.position() * Double.BYTES);
+            buffer.compact();
+        }
+        checkNoTrailingBytes(buffer, Double.BYTES);
+        return acc.max();
+    }
+
+    public static long sequentialSearch(ReadableByteChannel channel, int key) throws IOException {
+        return sequentialSearch(channel, key, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static long sequentialSearch(ReadableByteChannel channel, int key, ByteOrder order) throws IOException {
+        SearchCursor cursor = new SearchCursor(key);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(order);
+        while (fill(channel, buffer)) {
+            IntBuffer ints = buffer.asIntBuffer();
+            if (cursor.accept(ints) >= 0) return cursor.foundAt();
+            buffer.position(buffer.position() + ints.position() * Integer.BYTES);
+            buffer.compact();
+        }
+        checkNoTrailingBytes(buffer, Integer.BYTES);
+        return -1;
+    }
+
+    public static double findMaxElement(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return findMaxElement(channel);
+        }
+    }
+
+    public static long sequentialSearch(Path file, int key) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return sequentialSearch(channel, key);
+        }
+    }
+
+    /**
+     * Reads until the buffer is full or the channel ends, then flips it for reading.
+     * @return False once the channel is exhausted and no bytes were read.
+     */
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) break;
+        }
+        boolean readAny = buffer.position() > start;
+        buffer.flip();
+        if (!readAny) {
+            // Leave any leftover partial element in place for checkNoTrailingBytes
+            buffer.position(buffer.limit());
+            return false;
+        }
+        return true;
+    }
+
+    private static void checkNoTrailingBytes(ByteBuffer buffer, int elementBytes) {
+        int leftover = buffer.limit() % elementBytes;
+        if (leftover != 0) {
+            throw new IllegalArgumentException("Input ends with a partial element (" + leftover + " trailing bytes).");
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop load generator: keeps a fixed number of operations in flight for a warmup period and
+ * then a measurement window, and reports throughput, latency and scaling efficiency.
+ *
+ * Platform mode runs one platform thread per unit of concurrency, each calling the operation back to
+ * back. Virtual mode submits every operation as its own task to
+ * {@link Executors#newVirtualThreadPerTaskExecutor()}, with a pool of permits bounding how many are in
+ * flight. Each worker (or permit) owns a {@link LatencyHistogram}; the per-worker histograms are merged
+ * for the reported percentiles, and the worst per-worker p99 is reported separately.
+ *
+ * Inputs come from the factory once per operation, outside the latency measurement but inside the
+ * throughput window, so a factory that copies (for gaussianElimination) lowers ops/sec. Factories
+ * returning a shared input must only be used with operations that do not modify it. The window should
+ * be much longer than one operation; operations still running when it closes are not counted.
+ */
+public final class ThroughputDriver {
+
+    public static final long DEFAULT_WARMUP_MILLIS = 200;
+    public static final long DEFAULT_DURATION_MILLIS = 1000;
+
+    private final long warmupMillis;
+    private final long durationMillis;
+
+    public ThroughputDriver(long warmupMillis, long durationMillis) {
+        if (warmupMillis < 0) throw new IllegalArgumentException("Warmup time cannot be negative.");
+        if (durationMillis <= 0) throw new IllegalArgumentException("Duration must be positive.");
+        this.warmupMillis = warmupMillis;
+        this.durationMillis = durationMillis;
+    }
+
+    public ThroughputDriver() {
+        this(DEFAULT_WARMUP_MILLIS, DEFAULT_DURATION_MILLIS);
+    }
+
+    /** Powers of two below the number of available processors, followed by that number: 1, 2, 4, ..., cores. */
+    public static int[] defaultLevels() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> levels = new ArrayList<>();
+        for (int level = 1; level < cores; level <<= 1) { levels.add(level); }
+        levels.add(cores);
+        return levels.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Runs the operation in platform mode at every level, then in virtual mode. Scaling efficiency is
+     * relative to the per-thread throughput of the first level (normally 1).
+     * @param levels Platform thread counts, in increasing order.
+     * @param virtualConcurrency Operations in flight in virtual mode, or 0 to skip it.
+     * @return One result per platform level, then the virtual-mode result if requested.
+     */
+    public <T> List<ThroughputResult> run(String algorithm, long inputSize, int[] levels, int virtualConcurrency,
+                                          Supplier<T> inputFactory, Function<T, ?> operation) {
+        if (levels.length == 0) throw new IllegalArgumentException("At least one concurrency level is required.");
+        List<ThroughputResult> results = new ArrayList<>();
+        double perThreadBaseline = Double.NaN;
+        for (int level : levels) {
+            ThroughputResult r = runPlatform(algorithm, inputSize, level, inputFactory, operation);
+            if (results.isEmpty()) perThreadBaseline = r.opsPerSecond() / level;
+            results.add(r.withBaseline(perThreadBaseline));
+        }
+        if (virtualConcurrency > 0) {
+            results.add(runVirtual(algorithm, inputSize, virtualConcurrency, inputFactory, operation)
+                    .withBaseline(perThreadBaseline));
+        }
+        return results;
+    }
+
+    /** Runs the operation on the given number of platform threads; scaling efficiency is left as NaN. */
+    public <T> ThroughputResult runPlatform(String algorithm, long inputSize, int threads,
+                                            Supplier<T> inputFactory, Function<T, ?> operation) {
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive.");
+        Run run = new Run(threads);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            Slot slot = run.slots[t];
+            workers[t] = Thread.ofPlatform().name(algorithm + "-load-" + t).start(() -> {
+                try {
+                    while (!run.stopped) { slot.execute(run, inputFactory, operation); }
+                } catch (Throwable e) {
+                    run.fail(e);
+                }
+            });
+        }
+        try {
+            sleepMillis(warmupMillis);
+            run.startMeasuring();
+            sleepMillis(durationMillis);
+            run.stopMeasuring();
+            for (Thread worker : workers) { worker.join(); }
+        } catch (InterruptedException e) {
+            run.stopped = true;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while measuring " + algorithm + ".", e);
+        }
+        return run.result(algorithm, inputSize, "platform");
+    }
+
+    /** Runs the operation as one virtual thread per call with at most concurrency calls in flight. */
+    public <T> ThroughputResult runVirtual(String algorithm, long inputSize, int concurrency,
+                                           Supplier<T> inputFactory, Function<T, ?> operation) {
+        if (concurrency <= 0) throw new IllegalArgumentException("Concurrency must be positive.");
+        Run run = new Run(concurrency);
+        ArrayBlockingQueue<Slot> permits = new ArrayBlockingQueue<>(concurrency);
+        for (Slot slot : run.slots) { permits.add(slot); }
+        long measureAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        long stopAt = measureAt + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (!run.stopped) {
+                long now = System.nanoTime();
+                if (!run.measuring && now >= measureAt) {
+                    run.startMeasuring();
+                } else if (run.measuring && now >= stopAt) {
+                    run.stopMeasuring();
+                    break;
+                }
+                long deadline = run.measuring ? stopAt : measureAt;
+                Slot slot = permits.poll(Math.max(0, deadline - now), TimeUnit.NANOSECONDS);
+                if (slot == null) continue;
+                executor.execute(() -> {
+                    try {
+                        slot.execute(run, inputFactory, operation);
+                    } catch (Throwable e) {
+                        run.fail(e);
+                    } finally {
+                        permits.add(slot);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            run.stopped = true;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while measuring " + algorithm + ".", e);
+        }
+        return run.result(algorithm, inputSize, "virtual");
+    }
+
+    private static void sleepMillis(long millis) throws InterruptedException {
+        if (millis > 0) Thread.sleep(millis);
+    }
+
+    /**
+     * Per-worker state. Only one thread uses a slot at a time (a platform worker, or the virtual task
+     * holding the permit; the permit queue hands it over safely), so none of it needs synchronization.
+     */
+    private static final class Slot {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        long operations;
+        @SuppressWarnings("unused")
+        Object sink; // Keeps results reachable so the JIT cannot drop the work
+
+        <T> void execute(Run run, Supplier<T> inputFactory, Function<T, ?> operation) {
+            T input = inputFactory.get();
+            long start = System.nanoTime();
+            Object result = operation.apply(input);
+            long latency = System.nanoTime() - start;
+            sink = result;
+            if (run.measuring) {
+                histogram.record(latency);
+                operations++;
+            }
+        }
+    }
+
+    /** Shared phase flags and the slots of one run. */
+    private static final class Run {
+        final Slot[] slots;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        volatile boolean measuring;
+        volatile boolean stopped;
+        private long measureStart;
+        private long elapsedNs;
+
+        Run(int concurrency) {
+            slots = new Slot[concurrency];
+            for (int i = 0; i < concurrency; i++) { slots[i] = new Slot(); }
+        }
+
+        void startMeasuring() {
+            measureStart = System.nanoTime();
+            measuring = true;
+        }
+
+        void stopMeasuring() {
+            measuring = false;
+            elapsedNs = System.nanoTime() - measureStart;
+            stopped = true;
+        }
+
+        void fail(Throwable e) {
+            failure.compareAndSet(null, e);
+            stopped = true;
+        }
+
+        /** Must be called after every worker has finished. */
+        ThroughputResult result(String algorithm, long inputSize, String mode) {
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException re) throw re;
+            if (e instanceof Error error) throw error;
+            if (e != null) throw new IllegalStateException(e);
+
+            LatencyHistogram merged = new LatencyHistogram();
+            long operations = 0;
+            long worstP99 = 0;
+            for (Slot slot : slots) {
+                merged.merge(slot.histogram);
+                operations += slot.operations;
+                worstP99 = Math.max(worstP99, slot.histogram.percentile(99));
+            }
+            double opsPerSecond = elapsedNs > 0 ? operations * 1e9 / elapsedNs : 0;
+            return new ThroughputResult(algorithm, inputSize, mode, slots.length, operations, elapsedNs,
+                    opsPerSecond, Double.NaN, merged.percentile(50), merged.percentile(99), merged.max(), worstP99);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example;
+
+import java.util.Locale;
+
+/**
+ * Outcome of one closed-loop throughput run of an algorithm at a fixed concurrency.
+ * @param mode "platform" (one platform thread per worker) or "virtual" (a virtual thread per operation).
+ * @param concurrency Number of operations in flight at any time.
+ * @param operations Operations completed during the measurement window.
+ * @param scalingEfficiency opsPerSecond / (parallelism * single-thread opsPerSecond), where parallelism is
+ *                          min(concurrency, available processors); 1.0 is linear scaling.
+ * @param p50Ns Median latency over all workers.
+ * @param worstWorkerP99Ns The highest p99 of any single worker, to expose unfair scheduling.
+ */
+public record ThroughputResult(String algorithm, long inputSize, String mode, int concurrency,
+                               long operations, long elapsedNs, double opsPerSecond, double scalingEfficiency,
+                               long p50Ns, long p99Ns, long maxNs, long worstWorkerP99Ns) {
+
+    static final String CSV_HEADER = "Algorithm,InputSize,Mode,Concurrency,Operations,ElapsedNs,OpsPerSec,ScalingEfficiency,P50Ns,P99Ns,MaxNs,WorstWorkerP99Ns";
+
+    /** Copy with the scaling efficiency computed against a single-thread throughput. */
+    ThroughputResult withBaseline(double singleThreadOpsPerSecond) {
+        // Work beyond the core count can only queue, so it does not raise the ideal
+        int parallelism = Math.min(concurrency, Runtime.getRuntime().availableProcessors());
+        double efficiency = singleThreadOpsPerSecond > 0 ? opsPerSecond / (parallelism * singleThreadOpsPerSecond) : Double.NaN;
+        return new ThroughputResult(algorithm, inputSize, mode, concurrency, operations, elapsedNs, opsPerSecond,
+                efficiency, p50Ns, p99Ns, maxNs, worstWorkerP99Ns);
+    }
+
+    String toCsvRow() {
+        return algorithm + "," + inputSize + "," + mode + "," + concurrency + "," + operations + "," + elapsedNs + ","
+                + String.format(Locale.ROOT, "%.1f,%.3f", opsPerSecond, scalingEfficiency) + ","
+                + p50Ns + "," + p99Ns + "," + maxNs + "," + worstWorkerP99Ns;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Machine-specific performance parameters chosen by {@link Autotuner}, stored as a properties file.
+ * Each parameter is a single value per machine, not a table per input size; see {@link Autotuner}.
+ * @param tileSize Tile edge for the blocked matrix kernel.
+ * @param multiplyParallelCutoff Matrix size N from which multiplyMatricesParallel forks onto its pool;
+ *        smaller products run serially. 1 always forks; Integer.MAX_VALUE never does.
+ * @param eliminationParallelThreshold Elements updated per pivot step from which parallel elimination forks.
+ * @param scanSerialThreshold Array length below which the parallel scans stay serial.
+ * @param hashSortCrossover Array length below which the AUTO uniqueness check sorts instead of hashing
+ *        (when the bitset does not apply); 0 never sorts.
+ * @param machine The fingerprint of the machine the values were measured on.
+ */
+public record TuningProfile(int tileSize, int multiplyParallelCutoff, int eliminationParallelThreshold,
+                            int scanSerialThreshold, int hashSortCrossover, String machine) {
+
+    /** The library's built-in values, used until a profile is installed. */
+    public static final TuningProfile DEFAULTS = new TuningProfile(MatrixMultiplier.DEFAULT_TILE_SIZE, 1,
+            GaussianEliminator.DEFAULT_PARALLEL_THRESHOLD, ParallelScans.DEFAULT_SERIAL_THRESHOLD, 0, fingerprint());
+
+    public TuningProfile {
+        if (tileSize <= 0 || multiplyParallelCutoff <= 0 || eliminationParallelThreshold <= 0 || scanSerialThreshold <= 0) {
+            throw new IllegalArgumentException("Tuning parameters must be positive.");
+        }
+        if (hashSortCrossover < 0) throw new IllegalArgumentException("Hash/sort crossover cannot be negative.");
+        if (machine == null) throw new IllegalArgumentException("Machine fingerprint cannot be null.");
+    }
+
+    /**
+     * Identifies what the measurements depend on: core count, architecture, OS and JVM. A profile with a
+     * different fingerprint was measured elsewhere and is recalibrated rather than trusted.
+     */
+    public static String fingerprint() {
+        return Runtime.getRuntime().availableProcessors() + " cpus/" + System.getProperty("os.arch")
+                + "/" + System.getProperty("os.name") + "/" + System.getProperty("java.vm.name")
+                + " " + System.getProperty("java.vm.version");
+    }
+
+    public boolean matchesThisMachine() {
+        return machine.equals(fingerprint());
+    }
+
+    /**
+     * Reads a profile written by {@link #store(Path)}.
+     * @return The profile, or empty if the file does not exist.
+     * @throws IllegalArgumentException If the file is incomplete or malformed.
+     */
+    public static Optional<TuningProfile> load(Path file) throws IOException {
+        if (!Files.exists(file)) return Optional.empty();
+        Properties p = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            p.load(in);
+        }
+        return Optional.of(new TuningProfile(intProperty(p, "tileSize"), intProperty(p, "multiplyParallelCutoff"),
+                intProperty(p, "eliminationParallelThreshold"), intProperty(p, "scanSerialThreshold"),
+                intProperty(p, "hashSortCrossover"), p.getProperty("machine", "")));
+    }
+
+    private static int intProperty(Properties p, String key) {
+        String value = p.getProperty(key);
+        if (value == null) throw new IllegalArgumentException("Tuning profile is missing " + key + ".");
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Tuning profile has a malformed " + key + ": " + value + ".");
+        }
+    }
+
+    public void store(Path file) throws IOException {
+        Properties p = new Properties();
+        p.setProperty("tileSize", Integer.toString(tileSize));
+        p.setProperty("multiplyParallelCutoff", Integer.toString(multiplyParallelCutoff));
+        p.setProperty("eliminationParallelThreshold", Integer.toString(eliminationParallelThreshold));
+        p.setProperty("scanSerialThreshold", Integer.toString(scanSerialThreshold));
+        p.setProperty("hashSortCrossover", Integer.toString(hashSortCrossover));
+        p.setProperty("machine", machine);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            p.store(out, "Autotuner calibration; delete to recalibrate");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "tileSize=" + tileSize
+                + ", multiplyParallelCutoff=" + limit(multiplyParallelCutoff)
+                + ", eliminationParallelThreshold=" + limit(eliminationParallelThreshold)
+                + ", scanSerialThreshold=" + limit(scanSerialThreshold)
+                + ", hashSortCrossover=" + hashSortCrossover;
+    }
+
+    /** Integer.MAX_VALUE as a threshold means the parallel path is never taken. */
+    private static String limit(int threshold) {
+        return threshold == Integer.MAX_VALUE ? "never parallel" : Integer.toString(threshold);
+    }
+}
@@ -0,0 +1,137 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Duplicate detection for int arrays in O(N) expected time (O(N log N) for the sort strategy).
+ *
+ * <ul>
+ *   <li>{@link Strategy#HASH}: open-addressing primitive hash map of value to first index.</li>
+ *   <li>{@link Strategy#BITSET}: one bit per value in [min, max]; only sensible for dense ranges.</li>
+ *   <li>{@link Strategy#SORT}: sorts a copy of the values; the smallest extra footprint (4 bytes per element).</li>
+ *   <li>{@link Strategy#AUTO}: picks BITSET or HASH from the array size and a min/max pre-scan, or SORT
+ *       for arrays shorter than the tuned {@link TuningProfile#hashSortCrossover()}.</li>
+ * </ul>
+ *
+ * HASH and BITSET stop at the earliest second occurrence of any value and report it together with
+ * the index of that value's first occurrence. SORT reports the first two occurrences of the
+ * smallest duplicated value.
+ */
+public final class UniquenessChecker {
+
+    public enum Strategy { AUTO, HASH, BITSET, SORT }
+
+    /** AUTO uses the bitset while it needs at most this many bits per element (16 bytes, about a hash entry). */
+    static final int MAX_BITS_PER_ELEMENT = 128;
+
+    /**
+     * Outcome of a uniqueness check.
+     * @param unique True when no value repeats.
+     * @param firstIndex Index of the earlier element of a colliding pair, or -1 when unique.
+     * @param secondIndex Index of the later element of a colliding pair, or -1 when unique.
+     * @param strategy The strategy that actually ran.
+     */
+    public record Result(boolean unique, int firstIndex, int secondIndex, Strategy strategy) {
+        static Result unique(Strategy strategy) {
+            return new Result(true, -1, -1, strategy);
+        }
+    }
+
+    private UniquenessChecker() {
+    }
+
+    public static Result check(int[] A) {
+        return check(A, Strategy.AUTO);
+    }
+
+    public static Result check(int[] A, Strategy strategy) {
+        if (A == null) throw new IllegalArgumentException("Array cannot be null.");
+        if (strategy == null) throw new IllegalArgumentException("Strategy cannot be null.");
+        if (A.length < 2) return Result.unique(strategy == Strategy.AUTO ? Strategy.HASH : strategy);
+        switch (strategy) {
+            case HASH:
+                return checkWithHash(A);
+            case SORT:
+                return checkWithSort(A);
+            case BITSET: {
+                long[] range = minMax(A);
+                return checkWithBitset(A, range[0], range[1]);
+            }
+            default: {
+                long[] range = minMax(A);
+                if (bitsetFits(range[0], range[1], A.length)) return checkWithBitset(A, range[0], range[1]);
+                // Small arrays can sort faster than they fill a hash table; the crossover is machine-tuned
+                return A.length < Autotuner.profile().hashSortCrossover() ? checkWithSort(A) : checkWithHash(A);
+            }
+        }
+    }
+
+    /** The AUTO choice between BITSET and HASH, never sorting, so the pair reported is always the earliest. */
+    static Result checkWithoutSorting(int[] A) {
+        if (A.length < 2) return Result.unique(Strategy.HASH);
+        long[] range = minMax(A);
+        return bitsetFits(range[0], range[1], A.length) ? checkWithBitset(A, range[0], range[1]) : checkWithHash(A);
+    }
+
+    static boolean bitsetFits(long min, long max, int length) {
+        return max - min + 1 <= (long) length * MAX_BITS_PER_ELEMENT;
+    }
+
+    private static long[] minMax(int[] A) {
+        int min = A[0], max = A[0];
+        for (int i = 1; i < A.length; i++) {
+            if (A[i] < min) { min = A[i]; } else if (A[i] > max) { max = A[i]; }
+        }
+        return new long[] {min, max};
+    }
+
+    private static Result checkWithHash(int[] A) {
+        IntIntHashMap firstSeen = new IntIntHashMap(A.length);
+        for (int j = 0; j < A.length; j++) {
+            int i = firstSeen.putIfAbsent(A[j], j);
+            if (i != IntIntHashMap.NO_VALUE) { return new Result(false, i, j, Strategy.HASH); }
+        }
+        return Result.unique(Strategy.HASH);
+    }
+
+    private static Result checkWithBitset(int[] A, long min, long max) {
+        long span = max - min + 1;
+        return checkWithBitset(A, min, new long[(int) ((span + 63) >>> 6)]);
+    }
+
+    /** Bitset check into a caller-supplied, all-zero bitset covering [min, max]. */
+    static Result checkWithBitset(int[] A, long min, long[] bits) {
+        for (int j = 0; j < A.length; j++) {
+            long offset = A[j] - min;
+            int word = (int) (offset >>> 6);
+            long bit = 1L << offset;
+            if ((bits[word] & bit) != 0) {
+                // The bitset does not remember positions; one backward scan recovers the first one.
+                return new Result(false, indexOf(A, A[j], 0, j), j, Strategy.BITSET);
+            }
+            bits[word] |= bit;
+        }
+        return Result.unique(Strategy.BITSET);
+    }
+
+    private static Result checkWithSort(int[] A) {
+        int[] sorted = A.clone();
+        Arrays.sort(sorted);
+        for (int k = 1; k < sorted.length; k++) {
+            if (sorted[k] == sorted[k - 1]) {
+                int value = sorted[k];
+                int first = indexOf(A, value, 0, A.length);
+                int second = indexOf(A, value, first + 1, A.length);
+                return new Result(false, first, second, Strategy.SORT);
+            }
+        }
+        return Result.unique(Strategy.SORT);
+    }
+
+    private static int indexOf(int[] A, int value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (A[i] == value) { return i; }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels built on the incubating Vector API (jdk.incubator.vector).
+ *
+ * This class must only be touched when the module is present in the boot layer
+ * (run with --add-modules jdk.incubator.vector); {@link Algorithms} checks that and
+ * falls back to the scalar loops otherwise.
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+    }
+
+    /** Compares a full vector of lanes against the key per step and returns the first matching index. */
+    static int sequentialSearch(int[] A, int K) {
+        IntVector key = IntVector.broadcast(INTS, K);
+        int i = 0;
+        int upper = INTS.loopBound(A.length);
+        for (; i < upper; i += INTS.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, A, i).compare(VectorOperators.EQ, key);
+            if (hits.anyTrue()) { return i + hits.firstTrue(); }
+        }
+        for (; i < A.length; i++) {
+            if (A[i] == K) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * Lane-wise running maximum. Lanes only take a new value when it compares strictly greater,
+     * which mirrors the scalar loop: NaN elements are skipped, and a NaN in A[0] is returned as is.
+     * The lanes see the array out of order, so when the maximum is zero the first zero in A is
+     * returned, as the scalar loop would, whatever its sign.
+     */
+    static double findMaxElement(double[] A) {
+        double maxval = A[0];
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, maxval);
+        int i = 0;
+        int upper = DOUBLES.loopBound(A.length);
+        for (; i < upper; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, A, i);
+            acc = acc.blend(v, v.compare(VectorOperators.GT, acc));
+        }
+        for (int lane = 0; lane < DOUBLES.length(); lane++) {
+            double x = acc.lane(lane);
+            if (x > maxval) { maxval = x; }
+        }
+        for (; i < A.length; i++) {
+            if (A[i] > maxval) { maxval = A[i]; }
+        }
+        // 0.0 and -0.0 are the only distinct values that compare equal
+        if (maxval == 0.0) {
+            for (double x : A) {
+                if (x == 0.0) { return x; }
+            }
+        }
+        return maxval;
+    }
+
+    /**
+     * Tiled C += A * B for row-major A (n x p), B (p x m) and C (n x m). The micro-kernel keeps four
+     * rows of C in vector registers and updates them with fused multiply-adds along k. FMA rounds
+     * once per step, so results can differ from the scalar kernel in the last bits.
+     */
+    static void multiply(double[] a, double[] b, double[] c, int n, int p, int m, int tileSize) {
+        for (int ii = 0; ii < n; ii += tileSize) {
+            int iEnd = Math.min(ii + tileSize, n);
+            for (int kk = 0; kk < p; kk += tileSize) {
+                int kEnd = Math.min(kk + tileSize, p);
+                for (int jj = 0; jj < m; jj += tileSize) {
+                    int jEnd = Math.min(jj + tileSize, m);
+                    kernel(a, b, c, p, m, ii, iEnd, kk, kEnd, jj, jEnd);
+                }
+            }
+        }
+    }
+
+    private static void kernel(double[] a, double[] b, double[] c, int p, int m,
+                               int iStart, int iEnd, int kStart, int kEnd, int jStart, int jEnd) {
+        int lanes = DOUBLES.length();
+        int i = iStart;
+        for (; i + 4 <= iEnd; i += 4) {
+            int a0 = i * p, a1 = a0 + p, a2 = a1 + p, a3 = a2 + p;
+            int c0 = i * m, c1 = c0 + m, c2 = c1 + m, c3 = c2 + m;
+            int j = jStart;
+            for (; j + lanes <= jEnd; j += lanes) {
+                DoubleVector acc0 = DoubleVector.fromArray(DOUBLES, c, c0 + j);
+                DoubleVector acc1 = DoubleVector.fromArray(DOUBLES, c, c1 + j);
+                DoubleVector acc2 = DoubleVector.fromArray(DOUBLES, c, c2 + j);
+                DoubleVector acc3 = DoubleVector.fromArray(DOUBLES, c, c3 + j);
+                for (int k = kStart; k < kEnd; k++) {
+                    DoubleVector bk = DoubleVector.fromArray(DOUBLES, b, k * m + j);
+                    acc0 = bk.fma(DoubleVector.broadcast(DOUBLES, a[a0 + k]), acc0);
+                    acc1 = bk.fma(DoubleVector.broadcast(DOUBLES, a[a1 + k]), acc1);
+                    acc2 = bk.fma(DoubleVector.broadcast(DOUBLES, a[a2 + k]), acc2);
+                    acc3 = bk.fma(DoubleVector.broadcast(DOUBLES, a[a3 + k]), acc3);
+                }
+                acc0.intoArray(c, c0 + j);
+                acc1.intoArray(c, c1 + j);
+                acc2.intoArray(c, c2 + j);
+                acc3.intoArray(c, c3 + j);
+            }
+            for (; j < jEnd; j++) {
+                for (int r = 0; r < 4; r++) {
+                    int ar = a0 + r * p, cr = c0 + r * m;
+                    double sum = c[cr + j];
+                    for (int k = kStart; k < kEnd; k++) { sum = Math.fma(a[ar + k], b[k * m + j], sum); }
+                    c[cr + j] = sum;
+                }
+            }
+        }
+        for (; i < iEnd; i++) {
+            int ai = i * p, ci = i * m;
+            int j = jStart;
+            for (; j + lanes <= jEnd; j += lanes) {
+                DoubleVector acc = DoubleVector.fromArray(DOUBLES, c, ci + j);
+                for (int k = kStart; k < kEnd; k++) {
+                    acc = DoubleVector.fromArray(DOUBLES, b, k * m + j).fma(DoubleVector.broadcast(DOUBLES, a[ai + k]), acc);
+                }
+                acc.intoArray(c, ci + j);
+            }
+            for (; j < jEnd; j++) {
+                double sum = c[ci + j];
+                for (int k = kStart; k < kEnd; k++) { sum = Math.fma(a[ai + k], b[k * m + j], sum); }
+                c[ci + j] = sum;
+            }
+        }
+    }
+}
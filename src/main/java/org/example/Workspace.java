@@ -0,0 +1,75 @@
+package org.example;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Reusable scratch buffers for the allocation-free entry points. Buffers only grow, so after the
+ * first call at a given size, later calls allocate nothing.
+ *
+ * A kept buffer stays reachable for as long as its thread (or the pool) lives, so requests longer
+ * than {@link #MAX_RETAINED_LENGTH} get a fresh array that is not kept: such calls allocate, but one
+ * large call cannot pin hundreds of megabytes per thread.
+ *
+ * Platform threads each keep their own workspace. Virtual threads are usually short-lived, so a
+ * thread-local buffer would be allocated again for nearly every call; they borrow from a small
+ * shared pool instead. Always pair {@link #acquire()} with {@link #release()} in a finally block.
+ */
+final class Workspace {
+
+    private static final ThreadLocal<Workspace> LOCAL = ThreadLocal.withInitial(() -> new Workspace(false));
+    private static final ArrayBlockingQueue<Workspace> POOL =
+            new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+
+    /** Longest buffer kept between calls: 2^21 elements, 16 MB of doubles, a 1448 x 1448 matrix. */
+    static final int MAX_RETAINED_LENGTH = 1 << 21;
+
+    private final boolean pooled;
+    private double[] a = new double[0];
+    private double[] b = new double[0];
+    private double[] c = new double[0];
+    private int[] indices = new int[0];
+
+    private Workspace(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    static Workspace acquire() {
+        if (!Thread.currentThread().isVirtual()) return LOCAL.get();
+        Workspace w = POOL.poll();
+        return w != null ? w : new Workspace(true);
+    }
+
+    /** Returns a pooled workspace; a no-op for thread-local ones. Dropped if the pool is full. */
+    void release() {
+        if (pooled) POOL.offer(this);
+    }
+
+    /** Scratch of at least length doubles, with unspecified contents. */
+    double[] a(int length) {
+        if (a.length >= length) return a;
+        double[] buffer = new double[length];
+        if (length <= MAX_RETAINED_LENGTH) a = buffer;
+        return buffer;
+    }
+
+    double[] b(int length) {
+        if (b.length >= length) return b;
+        double[] buffer = new double[length];
+        if (length <= MAX_RETAINED_LENGTH) b = buffer;
+        return buffer;
+    }
+
+    double[] c(int length) {
+        if (c.length >= length) return c;
+        double[] buffer = new double[length];
+        if (length <= MAX_RETAINED_LENGTH) c = buffer;
+        return buffer;
+    }
+
+    int[] indices(int length) {
+        if (indices.length >= length) return indices;
+        int[] buffer = new int[length];
+        if (length <= MAX_RETAINED_LENGTH) indices = buffer;
+        return buffer;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example;
+
+/**
+ * Streaming XXH64 over a sequence of 64-bit words, fed in the order they would appear in memory.
+ * Hashing the raw bits of doubles with {@link #update(long)} gives the same value as XXH64 over
+ * their little-endian bytes. Each 32-byte stripe feeds four independent lanes, so their multiplies
+ * overlap in the pipeline.
+ */
+final class XxHash64 {
+
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+
+    private final long seed;
+    private long v1, v2, v3, v4;
+    // Up to three words of an incomplete 32-byte stripe
+    private long b0, b1, b2;
+    private long words;
+
+    XxHash64(long seed) {
+        this.seed = seed;
+        this.v1 = seed + P1 + P2;
+        this.v2 = seed + P2;
+        this.v3 = seed;
+        this.v4 = seed - P1;
+    }
+
+    /** XXH64 of the raw bits of every element of a matrix, row by row. */
+    static long hash(double[][] A, long seed) {
+        XxHash64 h = new XxHash64(seed);
+        for (double[] row : A) { h.update(row); }
+        return h.digest();
+    }
+
+    /** Feeds the raw bits of every element; whole stripes are hashed straight from the array. */
+    void update(double[] values) {
+        int i = 0, n = values.length;
+        while (i < n && (words & 3) != 0) { update(Double.doubleToRawLongBits(values[i++])); }
+        long a = v1, b = v2, c = v3, d = v4;
+        int stripes = (n - i) >> 2;
+        for (int s = 0; s < stripes; s++, i += 4) {
+            a = round(a, Double.doubleToRawLongBits(values[i]));
+            b = round(b, Double.doubleToRawLongBits(values[i + 1]));
+            c = round(c, Double.doubleToRawLongBits(values[i + 2]));
+            d = round(d, Double.doubleToRawLongBits(values[i + 3]));
+        }
+        v1 = a; v2 = b; v3 = c; v4 = d;
+        words += 4L * stripes;
+        while (i < n) { update(Double.doubleToRawLongBits(values[i++])); }
+    }
+
+    void update(long word) {
+        switch ((int) (words++ & 3)) {
+            case 0 -> b0 = word;
+            case 1 -> b1 = word;
+            case 2 -> b2 = word;
+            default -> {
+                v1 = round(v1, b0);
+                v2 = round(v2, b1);
+                v3 = round(v3, b2);
+                v4 = round(v4, word);
+            }
+        }
+    }
+
+    long digest() {
+        long h;
+        if (words >= 4) {
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = merge(h, v1);
+            h = merge(h, v2);
+            h = merge(h, v3);
+            h = merge(h, v4);
+        } else {
+            h = seed + P5;
+        }
+        h += words * Long.BYTES;
+        int pending = (int) (words & 3);
+        if (pending > 0) h = tail(h, b0);
+        if (pending > 1) h = tail(h, b1);
+        if (pending > 2) h = tail(h, b2);
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    private static long round(long acc, long input) {
+        return Long.rotateLeft(acc + input * P2, 31) * P1;
+    }
+
+    private static long merge(long acc, long lane) {
+        return (acc ^ round(0, lane)) * P1 + P4;
+    }
+
+    private static long tail(long h, long word) {
+        return Long.rotateLeft(h ^ round(0, word), 27) * P1 + P4;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the ...Into entry points allocate nothing once their workspaces are warm, using the
+ * per-thread allocation counter of the HotSpot ThreadMXBean.
+ */
+class AllocationFreeTest {
+
+    private static final int N = 96;
+    private static final int WARMUP_CALLS = 2_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void allocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation counting needs the HotSpot ThreadMXBean.");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Per-thread allocation counting is not supported.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void multiplyIntoAllocatesNothingInSteadyState() {
+        double[][] A = randomMatrix(new Random(1)), B = randomMatrix(new Random(2));
+        double[][] C = new double[N][N];
+        for (int i = 0; i < WARMUP_CALLS; i++) { Algorithms.multiplyInto(A, B, C); }
+
+        assertEquals(0, allocatedBy(() -> Algorithms.multiplyInto(A, B, C)));
+        double[][] expected = Algorithms.multiplyMatrices(A, B);
+        for (int i = 0; i < N; i++) { assertArrayEquals(expected[i], C[i]); }
+    }
+
+    @Test
+    void gaussianEliminationIntoAllocatesNothingInSteadyState() {
+        double[][] A = randomMatrix(new Random(3));
+        double[][] work = new double[N][N];
+        for (int i = 0; i < WARMUP_CALLS; i++) { Algorithms.gaussianEliminationInto(A, work); }
+
+        assertEquals(0, allocatedBy(() -> Algorithms.gaussianEliminationInto(A, work)));
+    }
+
+    /** Bytes allocated by the current thread while running call, less the cost of reading the counter. */
+    private static long allocatedBy(Runnable call) {
+        long start = threads.getCurrentThreadAllocatedBytes();
+        long overhead = threads.getCurrentThreadAllocatedBytes() - start;
+        start = threads.getCurrentThreadAllocatedBytes();
+        call.run();
+        return threads.getCurrentThreadAllocatedBytes() - start - overhead;
+    }
+
+    private static double[][] randomMatrix(Random random) {
+        double[][] A = new double[N][N];
+        for (double[] row : A) {
+            for (int j = 0; j < N; j++) { row[j] = random.nextDouble() * 200 - 100; }
+        }
+        return A;
+    }
+}
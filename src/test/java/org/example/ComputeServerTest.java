@@ -0,0 +1,77 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/** Exercises the server over loopback, including shutdown with requests in flight. */
+class ComputeServerTest {
+
+    private static final int CLIENTS = 16;
+    private static final int SHUTDOWN_ROUNDS = 25;
+    private static final long DRAIN_TIMEOUT_MS = 5_000;
+
+    @Test
+    void answersRequestsOverLoopback() throws IOException {
+        try (ComputeServer server = ComputeServer.start(0);
+             ComputeClient client = new ComputeClient(server.port())) {
+            int id = client.registerArray(new int[] {5, 3, 9, 3});
+            assertEquals(1, client.search(id, 3));
+            assertEquals(-1, client.search(id, 4));
+            assertEquals(Algorithms.countBinaryDigits(1000), client.countBinaryDigits(1000));
+            assertEquals(9.0, client.findMaxElement(new double[] {1, 9, -2}));
+            double[][] A = {{1, 2}, {3, 4}};
+            double[][] C = client.multiplyMatrices(A, A);
+            double[][] expected = Algorithms.multiplyMatrices(A, A);
+            for (int i = 0; i < A.length; i++) { assertArrayEquals(expected[i], C[i]); }
+            assertThrows(IllegalArgumentException.class, () -> client.search(id + 1000, 3));
+        }
+    }
+
+    /**
+     * Closes the server while clients keep small requests queued. Every serving thread must finish:
+     * a request queued after the batcher's final drain used to leave its thread waiting forever.
+     */
+    @Test
+    void closeCompletesRequestsInFlight() throws Exception {
+        for (int round = 0; round < SHUTDOWN_ROUNDS; round++) {
+            ComputeServer server = ComputeServer.start(0);
+            int id;
+            try (ComputeClient setup = new ComputeClient(server.port())) {
+                id = setup.registerArray(new int[] {1, 2, 3, 4});
+            }
+            CountDownLatch running = new CountDownLatch(CLIENTS);
+            List<Thread> clients = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int key = c;
+                clients.add(Thread.ofPlatform().start(() -> {
+                    try (ComputeClient client = new ComputeClient(server.port())) {
+                        running.countDown();
+                        while (true) {
+                            client.search(id, key % 5);
+                            client.countBinaryDigits(key);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // The server went away
+                    }
+                }));
+            }
+            running.await();
+            server.close();
+            for (Thread client : clients) { client.join(DRAIN_TIMEOUT_MS); }
+
+            long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+            while (server.openConnections() > 0 && System.currentTimeMillis() < deadline) { Thread.sleep(10); }
+            assertEquals(0, server.openConnections(), "Serving threads still running after close in round " + round + ".");
+            for (Thread client : clients) { assertTrue(!client.isAlive(), "Client still blocked after close."); }
+        }
+    }
+}